@@ -0,0 +1,49 @@
+package snownee.cuisine.api;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import snownee.cuisine.api.CompositeFood.IngredientBinding;
+import snownee.cuisine.internal.BenchmarkKitchen;
+
+/**
+ * Collecting and sorting effects of a dish, as done every time a dish is eaten.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EffectBindingsBenchmark
+{
+    @Param({ "1", "4", "8" })
+    public int ingredients;
+
+    private CompositeFood dish;
+
+    @Setup
+    public void setUp()
+    {
+        BenchmarkKitchen.setUp();
+        dish = BenchmarkKitchen.makeDish(ingredients);
+    }
+
+    @Benchmark
+    public Collection<IngredientBinding> getEffectBindings()
+    {
+        return dish.getEffectBindings();
+    }
+}
@@ -0,0 +1,115 @@
+package snownee.cuisine.api.process;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.ImmutableList;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+import snownee.cuisine.internal.BenchmarkKitchen;
+import snownee.kiwi.util.definition.ItemDefinition;
+
+/**
+ * {@code findRecipe} of each {@link Processing} manager, filled with the given number of
+ * synthetic recipes that differ by the metadata of their input. The hit matches the last
+ * recipe added, the miss matches none, so both scan all recipes of a linear manager.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecipeLookupBenchmark
+{
+    @Param({ "10", "100", "1000", "10000" })
+    public int recipes;
+
+    private ItemStack hit;
+    private ItemStack miss;
+    private FluidStack water;
+
+    @Setup
+    public void setUp()
+    {
+        BenchmarkKitchen.setUp();
+        Processing.CHOPPING.removeAll();
+        Processing.GRINDING.removeAll();
+        Processing.MILLING.removeAll();
+        Processing.VESSEL.removeAll();
+        ItemStack output = new ItemStack(Items.SUGAR);
+        for (int i = 0; i < recipes; i++)
+        {
+            ItemDefinition input = ItemDefinition.of(Items.PAPER, i);
+            Processing.CHOPPING.add(new Chopping(input, output));
+            Processing.GRINDING.add(new Grinding(ImmutableList.of(input), output, 1));
+            Processing.MILLING.add(new Milling(input, output, null, null));
+            Processing.VESSEL.add(new Vessel(input, FluidRegistry.WATER, ItemDefinition.of(Items.SUGAR), null));
+        }
+        hit = new ItemStack(Items.PAPER, 1, recipes - 1);
+        miss = new ItemStack(Items.STICK);
+        water = new FluidStack(FluidRegistry.WATER, 1000);
+    }
+
+    @Benchmark
+    public Chopping choppingHit()
+    {
+        return Processing.CHOPPING.findRecipe(hit);
+    }
+
+    @Benchmark
+    public Chopping choppingMiss()
+    {
+        return Processing.CHOPPING.findRecipe(miss);
+    }
+
+    @Benchmark
+    public Grinding grindingHit()
+    {
+        return Processing.GRINDING.findRecipe(hit);
+    }
+
+    @Benchmark
+    public Grinding grindingMiss()
+    {
+        return Processing.GRINDING.findRecipe(miss);
+    }
+
+    @Benchmark
+    public Milling millingHit()
+    {
+        return Processing.MILLING.findRecipe(hit, null);
+    }
+
+    @Benchmark
+    public Milling millingMiss()
+    {
+        return Processing.MILLING.findRecipe(miss, null);
+    }
+
+    @Benchmark
+    public Vessel vesselHit()
+    {
+        return Processing.VESSEL.findRecipe(water, hit);
+    }
+
+    @Benchmark
+    public Vessel vesselMiss()
+    {
+        return Processing.VESSEL.findRecipe(water, miss);
+    }
+}
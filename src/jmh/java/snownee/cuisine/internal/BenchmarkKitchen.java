@@ -0,0 +1,184 @@
+package snownee.cuisine.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.objectweb.asm.Type;
+
+import com.google.common.collect.ImmutableMap;
+
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.init.MobEffects;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.potion.PotionEffect;
+import net.minecraftforge.common.capabilities.CapabilityInject;
+import net.minecraftforge.common.capabilities.CapabilityManager;
+import net.minecraftforge.common.model.animation.CapabilityAnimation;
+import net.minecraftforge.common.model.animation.IAnimationStateMachine;
+import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+import net.minecraftforge.fml.common.discovery.ASMDataTable;
+import net.minecraftforge.items.CapabilityItemHandler;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.oredict.OreDictionary;
+import snownee.cuisine.Cuisine;
+import snownee.cuisine.api.CompositeFood;
+import snownee.cuisine.api.CulinaryHub;
+import snownee.cuisine.api.Effect;
+import snownee.cuisine.api.Form;
+import snownee.cuisine.api.Ingredient;
+import snownee.cuisine.api.Material;
+import snownee.cuisine.api.MaterialCategory;
+import snownee.cuisine.api.Seasoning;
+import snownee.cuisine.api.Spice;
+import snownee.cuisine.api.prefab.SimpleEffectImpl;
+import snownee.cuisine.api.prefab.SimpleMaterialImpl;
+import snownee.cuisine.api.prefab.SimpleSpiceImpl;
+import snownee.cuisine.internal.effect.EffectExperienced;
+import snownee.cuisine.internal.effect.EffectHarmony;
+import snownee.cuisine.internal.effect.EffectPotions;
+import snownee.cuisine.internal.food.Dish;
+import snownee.cuisine.internal.material.MaterialWithEffect;
+import snownee.cuisine.proxy.CommonProxy;
+import snownee.kiwi.util.definition.ItemDefinition;
+
+/**
+ * Shared fixture of benchmarks. {@link CuisineInternalGateway#init()} needs the items and
+ * potions of a running game, so instead a smaller set of materials, spices and effects is
+ * registered here, with mappings to vanilla items only. Tile entities can be created as on
+ * a dedicated server, with the capabilities they use injected.
+ */
+public final class BenchmarkKitchen
+{
+    /**
+     * Ore dictionary entry of beetroot, mapped to a material.
+     */
+    public static final String MAPPED_ORE = "cropBenchmark";
+
+    private static final Form[] FORMS = { Form.FULL, Form.SLICED, Form.DICED, Form.MINCED, Form.SHREDDED, Form.CUBED };
+
+    private static boolean ready;
+    private static Material[] materials;
+    private static Spice[] spices;
+    private static Effect[] effects;
+
+    private BenchmarkKitchen()
+    {
+        throw new UnsupportedOperationException("No instance for you");
+    }
+
+    public static synchronized void setUp()
+    {
+        if (ready)
+        {
+            return;
+        }
+        Bootstrap.register();
+        setUpCapabilities();
+        Cuisine.proxy = new CommonProxy();
+
+        CuisineInternalGateway api = new CuisineInternalGateway();
+        CulinaryHub.API_INSTANCE = CuisineInternalGateway.INSTANCE = api;
+
+        effects = new Effect[] {
+                new EffectExperienced(),
+                new EffectHarmony(),
+                new SimpleEffectImpl("flavor_enhancer"),
+                new EffectPotions("night_vision").addPotionEffect(new PotionEffect(MobEffects.NIGHT_VISION, 400, 0))
+        };
+        for (Effect effect : effects)
+        {
+            api.register(effect);
+        }
+
+        materials = new Material[] {
+                new SimpleMaterialImpl("tomato", -2681308, 0, 1, 1, 1, 0F, MaterialCategory.VEGETABLES),
+                new SimpleMaterialImpl("chicken", -929599, 0, 1, 1, 1, 0F, MaterialCategory.MEAT),
+                new SimpleMaterialImpl("fish", -10583426, 0, 1, 1, 1, 0F, MaterialCategory.FISH),
+                new MaterialWithEffect("carrot", effects[3], -1538531, 0, 1, 1, 1, 0.1F, MaterialCategory.VEGETABLES),
+                new MaterialWithEffect("tofu", effects[1], -2311026, 0, 1, 1, 1, 0.4F, MaterialCategory.PROTEIN, MaterialCategory.GRAIN)
+        };
+        for (Material material : materials)
+        {
+            api.register(material);
+        }
+
+        spices = new Spice[] { new SimpleSpiceImpl("edible_oil", 0), new SimpleSpiceImpl("salt", 16383998) };
+        for (Spice spice : spices)
+        {
+            api.register(spice);
+        }
+
+        api.itemToMaterialMapping.put(ItemDefinition.of(Items.CARROT), materials[3]);
+        api.itemToMaterialMapping.put(ItemDefinition.of(Items.CHICKEN), materials[1]);
+        api.itemToMaterialMapping.put(ItemDefinition.of(Items.FISH), materials[2]);
+        OreDictionary.registerOre(MAPPED_ORE, new ItemStack(Items.BEETROOT));
+        api.oreDictToMaterialMapping.put(MAPPED_ORE, materials[0]);
+
+        ready = true;
+    }
+
+    /**
+     * Inject the capabilities used by tile entities, as FML does with the annotations it
+     * finds when loading mods.
+     */
+    private static void setUpCapabilities()
+    {
+        ASMDataTable table = new ASMDataTable();
+        addCapabilityInject(table, CapabilityItemHandler.class, "ITEM_HANDLER_CAPABILITY", IItemHandler.class);
+        addCapabilityInject(table, CapabilityFluidHandler.class, "FLUID_HANDLER_CAPABILITY", IFluidHandler.class);
+        addCapabilityInject(table, CapabilityAnimation.class, "ANIMATION_CAPABILITY", IAnimationStateMachine.class);
+        CapabilityManager.INSTANCE.injectCapabilities(table);
+        CapabilityItemHandler.register();
+        CapabilityFluidHandler.register();
+        CapabilityAnimation.register();
+    }
+
+    private static void addCapabilityInject(ASMDataTable table, Class<?> owner, String field, Class<?> type)
+    {
+        table.addASMData(null, CapabilityInject.class.getName(), owner.getName(), field, ImmutableMap.of("value", Type.getType(type)));
+    }
+
+    public static Material getMaterial(int index)
+    {
+        return materials[index % materials.length];
+    }
+
+    /**
+     * Make a dish with the given number of ingredients of different materials and forms,
+     * two seasonings and an effect. Every other ingredient has an extra effect as well.
+     */
+    public static Dish makeDish(int ingredientCount)
+    {
+        List<Ingredient> ingredients = new ArrayList<>(ingredientCount);
+        for (int i = 0; i < ingredientCount; i++)
+        {
+            Ingredient ingredient = new Ingredient(getMaterial(i), FORMS[i % FORMS.length], 1F + i % 3);
+            if (i % 2 == 0)
+            {
+                ingredient.addEffect(effects[i / 2 % effects.length]);
+            }
+            ingredients.add(ingredient);
+        }
+        List<Seasoning> seasonings = new ArrayList<>(spices.length);
+        for (Spice spice : spices)
+        {
+            seasonings.add(new Seasoning(spice, 2));
+        }
+        List<Effect> dishEffects = new ArrayList<>(1);
+        dishEffects.add(effects[2]);
+        Dish dish = new Dish(ingredients, seasonings, dishEffects);
+        dish.setServes(ingredientCount);
+        return dish;
+    }
+
+    /**
+     * @return The dish serialized as in a dish item or a wok
+     */
+    public static NBTTagCompound serialize(CompositeFood dish)
+    {
+        return CuisinePersistenceCenter.serialize(dish);
+    }
+}
@@ -0,0 +1,76 @@
+package snownee.cuisine.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import snownee.cuisine.api.Material;
+
+/**
+ * Material lookup of {@link CuisineInternalGateway}. A miss is the worst case, since all
+ * ore dictionary entries of the item are tried after the item mapping.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MaterialLookupBenchmark
+{
+    private CuisineInternalGateway api;
+    private ItemStack mappedItem;
+    private ItemStack mappedOre;
+    private ItemStack unknown;
+
+    @Setup
+    public void setUp()
+    {
+        BenchmarkKitchen.setUp();
+        api = CuisineInternalGateway.INSTANCE;
+        mappedItem = new ItemStack(Items.CARROT);
+        mappedOre = new ItemStack(Items.BEETROOT);
+        unknown = new ItemStack(Items.STICK);
+    }
+
+    @Benchmark
+    public Material itemHit()
+    {
+        return api.findMaterial(mappedItem);
+    }
+
+    @Benchmark
+    public Material oreHit()
+    {
+        return api.findMaterial(mappedOre);
+    }
+
+    @Benchmark
+    public Material itemMiss()
+    {
+        return api.findMaterial(unknown);
+    }
+
+    @Benchmark
+    public Material idHit()
+    {
+        return api.findMaterial("carrot");
+    }
+
+    @Benchmark
+    public Material idMiss()
+    {
+        return api.findMaterial("stick");
+    }
+}
@@ -0,0 +1,62 @@
+package snownee.cuisine.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.minecraft.nbt.NBTTagCompound;
+import snownee.cuisine.api.CompositeFood;
+
+/**
+ * Serialization of dishes, as done every time a dish item is read from or written to NBT.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistenceBenchmark
+{
+    @Param({ "1", "4", "8" })
+    public int ingredients;
+
+    private CompositeFood dish;
+    private NBTTagCompound data;
+
+    @Setup
+    public void setUp()
+    {
+        BenchmarkKitchen.setUp();
+        dish = BenchmarkKitchen.makeDish(ingredients);
+        data = CuisinePersistenceCenter.serialize(dish);
+    }
+
+    @Benchmark
+    public NBTTagCompound serialize()
+    {
+        return CuisinePersistenceCenter.serialize(dish);
+    }
+
+    @Benchmark
+    public CompositeFood deserialize()
+    {
+        return CuisinePersistenceCenter.deserialize(data);
+    }
+
+    @Benchmark
+    public CompositeFood roundTrip()
+    {
+        return CuisinePersistenceCenter.deserialize(CuisinePersistenceCenter.serialize(dish));
+    }
+}
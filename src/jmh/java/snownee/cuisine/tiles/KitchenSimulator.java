@@ -0,0 +1,277 @@
+package snownee.cuisine.tiles;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import com.google.common.collect.ImmutableList;
+
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.tileentity.TileEntityChest;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.items.CapabilityItemHandler;
+import net.minecraftforge.items.IItemHandler;
+import snownee.cuisine.api.process.Grinding;
+import snownee.cuisine.api.process.Milling;
+import snownee.cuisine.api.process.Processing;
+import snownee.cuisine.internal.BenchmarkKitchen;
+import snownee.kiwi.util.definition.ItemDefinition;
+
+/**
+ * Simulates a server full of kitchens without booting the game: N machines of each type
+ * are placed in a {@link SimulatedWorld}, fed by scripted automation and players, and
+ * ticked through the same entry points as on a server for M ticks. Reports mean and 99th
+ * percentile time per tick, and allocation rate, of each machine type. Run by the
+ * {@code simulateKitchens} task.
+ * <p>
+ * Arguments: machines of each type (64), measured ticks (12000), warm-up ticks (1200) and
+ * seed (0). Machines start their scripts at random offsets, so that they don't all act on
+ * the same tick.
+ * <p>
+ * Woks and jars are not simulated: they send packets through the network channel of Kiwi,
+ * which cannot be created without FML.
+ */
+public final class KitchenSimulator
+{
+    private static final int TICKS_PER_SECOND = 20;
+    private static final double TICK_BUDGET_MS = 50;
+
+    private KitchenSimulator()
+    {
+        throw new UnsupportedOperationException("No instance for you");
+    }
+
+    interface Machine
+    {
+        void tick(long time);
+    }
+
+    public static void main(String[] args)
+    {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 12000;
+        int warmup = args.length > 2 ? Integer.parseInt(args[2]) : 1200;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 0L;
+
+        BenchmarkKitchen.setUp();
+        setUpRecipes();
+        SimulatedWorld world = new SimulatedWorld(seed);
+        SimulatedPlayer player = new SimulatedPlayer(world);
+        Random rand = new Random(seed);
+
+        List<MachineGroup> groups = new ArrayList<>();
+        groups.add(new MachineGroup("mill", count, ticks, i -> new Mill(world, place(i, 0), player, rand.nextInt(1200))));
+        groups.add(new MachineGroup("mortar", count, ticks, i -> new Mortar(world, place(i, 1), player, rand.nextInt(20))));
+        groups.add(new MachineGroup("barbecue_rack", count, ticks, i -> new BarbecueRack(world, place(i, 2), rand.nextInt(100))));
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        for (int t = -warmup; t < ticks; t++)
+        {
+            world.advanceTime();
+            long time = world.getTotalWorldTime();
+            for (MachineGroup group : groups)
+            {
+                long allocated = threads.getThreadAllocatedBytes(thread);
+                long start = System.nanoTime();
+                for (Machine machine : group.machines)
+                {
+                    machine.tick(time);
+                }
+                long elapsed = System.nanoTime() - start;
+                if (t >= 0)
+                {
+                    group.nanos[t] = elapsed;
+                    group.allocated += threads.getThreadAllocatedBytes(thread) - allocated;
+                }
+            }
+        }
+
+        report(groups, count, ticks, warmup);
+        System.out.printf("%d items were dropped into the world%n", world.getSpawnedEntities());
+    }
+
+    private static void setUpRecipes()
+    {
+        Processing.MILLING.removeAll();
+        Processing.MILLING.add(new Milling(ItemDefinition.of(Items.WHEAT), new ItemStack(Items.SUGAR), null, null));
+        Processing.GRINDING.removeAll();
+        Processing.GRINDING.add(new Grinding(ImmutableList.of(ItemDefinition.of(Items.CARROT)), new ItemStack(Items.SUGAR), 4));
+    }
+
+    /**
+     * Machines of the same type are placed in a row, 3 blocks apart, so that nothing but the
+     * chest of a mill is next to them.
+     */
+    private static BlockPos place(int index, int type)
+    {
+        return new BlockPos(index * 3, 64, type * 3);
+    }
+
+    private static <T extends TileEntity> T place(T tile, SimulatedWorld world, BlockPos pos)
+    {
+        tile.setWorld(world);
+        tile.setPos(pos);
+        return tile;
+    }
+
+    private static void report(List<MachineGroup> groups, int count, int ticks, int warmup)
+    {
+        System.out.printf("Simulated %d machines of each type for %d ticks, after %d ticks of warm-up%n", count, ticks, warmup);
+        System.out.printf("%-14s %12s %12s %12s %12s %12s%n", "machine", "mean ms/t", "p99 ms/t", "share", "KB/t", "MB/s");
+        long[] total = new long[ticks];
+        long allocated = 0;
+        for (MachineGroup group : groups)
+        {
+            for (int t = 0; t < ticks; t++)
+            {
+                total[t] += group.nanos[t];
+            }
+            allocated += group.allocated;
+            printRow(group.name, group.nanos, group.allocated);
+        }
+        printRow("all", total, allocated);
+    }
+
+    private static void printRow(String name, long[] nanos, long allocated)
+    {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        double mean = Arrays.stream(nanos).average().orElse(0) / 1e6;
+        double p99 = sorted.length == 0 ? 0 : sorted[Math.max(0, (int) Math.ceil(sorted.length * 0.99) - 1)] / 1e6;
+        double bytesPerTick = nanos.length == 0 ? 0 : (double) allocated / nanos.length;
+        System.out.printf("%-14s %12.4f %12.4f %11.2f%% %12.1f %12.2f%n", name, mean, p99, mean / TICK_BUDGET_MS * 100, bytesPerTick / 1024, bytesPerTick * TICKS_PER_SECOND / 1e6);
+    }
+
+    private static final class MachineGroup
+    {
+        private final String name;
+        private final List<Machine> machines;
+        /**
+         * Time spent on all machines of this type in each measured tick.
+         */
+        private final long[] nanos;
+        private long allocated;
+
+        private MachineGroup(String name, int count, int ticks, IntFunction<Machine> factory)
+        {
+            this.name = name;
+            this.machines = new ArrayList<>(count);
+            for (int i = 0; i < count; i++)
+            {
+                machines.add(factory.apply(i));
+            }
+            this.nanos = new long[ticks];
+        }
+    }
+
+    private static final class Mill implements Machine
+    {
+        private final TileMill tile;
+        private final IItemHandler input;
+        private final TileEntityChest chest;
+        private final SimulatedPlayer player;
+        private final int offset;
+
+        private Mill(SimulatedWorld world, BlockPos pos, SimulatedPlayer player, int offset)
+        {
+            this.tile = place(new TileMill(), world, pos);
+            this.input = tile.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, EnumFacing.UP);
+            world.setBlockState(pos.down(), Blocks.CHEST.getDefaultState());
+            this.chest = (TileEntityChest) world.getTileEntity(pos.down());
+            this.player = player;
+            this.offset = offset;
+        }
+
+        @Override
+        public void tick(long time)
+        {
+            long t = time + offset;
+            // A hopper above inserts an item every 8 ticks, like vanilla hoppers do
+            if (t % 8 == 0)
+            {
+                input.insertItem(0, new ItemStack(Items.WHEAT), false);
+            }
+            // A player cranks the mill every second
+            if (t % 20 == 0)
+            {
+                tile.onRightClicked(player);
+            }
+            // The outputs are taken from the chest below every minute
+            if (t % 1200 == 0)
+            {
+                chest.clear();
+            }
+            tile.update();
+        }
+    }
+
+    private static final class Mortar implements Machine
+    {
+        private final TileMortar tile;
+        private final SimulatedPlayer player;
+        private final int offset;
+
+        private Mortar(SimulatedWorld world, BlockPos pos, SimulatedPlayer player, int offset)
+        {
+            this.tile = place(new TileMortar(), world, pos);
+            this.player = player;
+            this.offset = offset;
+        }
+
+        @Override
+        public void tick(long time)
+        {
+            long t = time + offset;
+            // A hopper inserts an item every 8 ticks
+            if (t % 8 == 0)
+            {
+                tile.insertItem(new ItemStack(Items.CARROT));
+            }
+            // A player grinds twice a second. Mortar has nothing to do on its own
+            if (t % 10 == 0)
+            {
+                tile.process(player);
+            }
+        }
+    }
+
+    private static final class BarbecueRack implements Machine
+    {
+        private final TileBarbecueRack tile;
+        private final IItemHandler items;
+        private final int offset;
+
+        private BarbecueRack(SimulatedWorld world, BlockPos pos, int offset)
+        {
+            this.tile = place(new TileBarbecueRack(), world, pos);
+            this.items = tile.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, EnumFacing.UP);
+            this.offset = offset;
+        }
+
+        @Override
+        public void tick(long time)
+        {
+            // A hopper swaps cooked meat for raw meat every 5 seconds
+            if ((time + offset) % 100 == 0)
+            {
+                for (int i = 0; i < items.getSlots(); i++)
+                {
+                    if (items.getStackInSlot(i).getItem() != Items.BEEF)
+                    {
+                        items.extractItem(i, 64, false);
+                        items.insertItem(i, new ItemStack(Items.BEEF), false);
+                    }
+                }
+            }
+            tile.update();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package snownee.cuisine.tiles;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import com.mojang.authlib.GameProfile;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.world.World;
+
+/**
+ * A player that only exists to interact with machines. It is not a server player, so it
+ * gets no skill points, and it is never added to the world.
+ */
+final class SimulatedPlayer extends EntityPlayer
+{
+    private static final GameProfile PROFILE = new GameProfile(UUID.nameUUIDFromBytes("CuisineSimulatedPlayer".getBytes(StandardCharsets.UTF_8)), "[Cuisine]");
+
+    SimulatedPlayer(World world)
+    {
+        super(world, PROFILE);
+    }
+
+    @Override
+    public boolean isSpectator()
+    {
+        return false;
+    }
+
+    @Override
+    public boolean isCreative()
+    {
+        return false;
+    }
+}
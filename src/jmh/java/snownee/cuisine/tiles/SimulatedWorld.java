@@ -0,0 +1,111 @@
+package snownee.cuisine.tiles;
+
+import javax.annotation.Nullable;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.profiler.Profiler;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.GameType;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldProviderSurface;
+import net.minecraft.world.WorldSettings;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.storage.WorldInfo;
+
+/**
+ * A server side world without a server, made of empty chunks that are created on demand.
+ * Nothing is saved, and spawned entities are only counted instead of being added, since
+ * the simulation is about machines.
+ */
+final class SimulatedWorld extends World
+{
+    private int spawnedEntities;
+
+    SimulatedWorld(long seed)
+    {
+        // No save handler, nothing is saved
+        super(null, new WorldInfo(new WorldSettings(seed, GameType.SURVIVAL, false, false, WorldType.FLAT), "simulation"), new WorldProviderSurface(), new Profiler(), false);
+        this.provider.setWorld(this);
+        this.chunkProvider = this.createChunkProvider();
+    }
+
+    @Override
+    protected IChunkProvider createChunkProvider()
+    {
+        return new EmptyChunkProvider();
+    }
+
+    @Override
+    protected boolean isChunkLoaded(int x, int z, boolean allowEmpty)
+    {
+        return true;
+    }
+
+    @Override
+    public boolean spawnEntity(Entity entity)
+    {
+        ++spawnedEntities;
+        return true;
+    }
+
+    int getSpawnedEntities()
+    {
+        return spawnedEntities;
+    }
+
+    /**
+     * Advance the time by one tick, as the server does before ticking tile entities.
+     */
+    void advanceTime()
+    {
+        this.worldInfo.setWorldTotalTime(this.worldInfo.getWorldTotalTime() + 1);
+        this.worldInfo.setWorldTime(this.worldInfo.getWorldTime() + 1);
+    }
+
+    private final class EmptyChunkProvider implements IChunkProvider
+    {
+        private final Long2ObjectMap<Chunk> chunks = new Long2ObjectOpenHashMap<>();
+
+        @Nullable
+        @Override
+        public Chunk getLoadedChunk(int x, int z)
+        {
+            return chunks.get(ChunkPos.asLong(x, z));
+        }
+
+        @Override
+        public Chunk provideChunk(int x, int z)
+        {
+            long key = ChunkPos.asLong(x, z);
+            Chunk chunk = chunks.get(key);
+            if (chunk == null)
+            {
+                chunk = new Chunk(SimulatedWorld.this, x, z);
+                chunks.put(key, chunk);
+            }
+            return chunk;
+        }
+
+        @Override
+        public boolean tick()
+        {
+            return false;
+        }
+
+        @Override
+        public String makeString()
+        {
+            return "SimulatedChunkCache: " + chunks.size();
+        }
+
+        @Override
+        public boolean isChunkGeneratedAt(int x, int z)
+        {
+            return chunks.containsKey(ChunkPos.asLong(x, z));
+        }
+    }
+}
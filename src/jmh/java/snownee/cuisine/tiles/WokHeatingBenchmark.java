@@ -0,0 +1,77 @@
+package snownee.cuisine.tiles;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import snownee.cuisine.api.CompositeFood;
+import snownee.cuisine.api.CookingVessel;
+import snownee.cuisine.internal.BenchmarkKitchen;
+
+/**
+ * {@link CompositeFood#apply} with the strategy used by wok, as done on every stir fry.
+ * The dish gets hotter after each call like in a real wok, so it is made again for each
+ * iteration.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WokHeatingBenchmark
+{
+    @Param({ "1", "4", "8" })
+    public int ingredients;
+
+    private CompositeFood dish;
+    private final CookingVessel vessel = new CookingVessel()
+    {
+        @Override
+        public int getTemperature()
+        {
+            return 200;
+        }
+
+        @Override
+        public int getWaterAmount()
+        {
+            return 0;
+        }
+
+        @Override
+        public int getOilAmount()
+        {
+            return 100;
+        }
+    };
+
+    @Setup
+    public void setUp()
+    {
+        BenchmarkKitchen.setUp();
+    }
+
+    @Setup(Level.Iteration)
+    public void makeDish()
+    {
+        dish = BenchmarkKitchen.makeDish(ingredients);
+    }
+
+    @Benchmark
+    public CompositeFood apply()
+    {
+        return dish.apply(new TileWok.Heating(), vessel);
+    }
+}
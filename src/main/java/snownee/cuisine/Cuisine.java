@@ -12,7 +12,9 @@ import net.minecraftforge.fml.common.event.FMLPostInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLPreInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLServerStartingEvent;
 import snownee.cuisine.command.CommandRegistry;
+import snownee.cuisine.events.SpawnHandler;
 import snownee.cuisine.proxy.CommonProxy;
+import snownee.cuisine.tiles.TileBarbecueRack;
 import snownee.kiwi.util.VariantsHolder;
 
 @Mod(
@@ -89,5 +91,8 @@ public class Cuisine
     public void serverStarting(FMLServerStartingEvent e)
     {
         CommandRegistry.registryCommands(e);
+        // Recipes may have been changed since last time
+        TileBarbecueRack.invalidateSmeltingCache();
+        SpawnHandler.refreshRecipeList();
     }
 }
@@ -50,6 +50,30 @@ public final class CuisineConfig
         @Config.Name("MillWorkCycle")
         @Config.RangeInt(min = 1)
         public int millWorkPeriod = 160;
+
+        @Config.Comment(
+            { "Maximum number of recipe inputs a mill processes in one working cycle.",
+                    "It is also limited by the remaining input and the free space of output tank." }
+        )
+        @Config.LangKey("cuisine.config.general.mill_batch_size")
+        @Config.Name("MillBatchSize")
+        @Config.RangeInt(min = 1, max = 64)
+        public int millBatchSize = 1;
+
+        @Config.Comment(
+            { "Maximum number of Cuisine particles spawned in one frame with particle setting \"All\".",
+                    "Decreased and Minimal settings use a half and a tenth of it, shared by all machines in view." }
+        )
+        @Config.LangKey("cuisine.config.general.particle_budget")
+        @Config.Name("ParticleBudget")
+        @Config.RangeInt(min = 0, max = 1000)
+        public int particleBudget = 64;
+
+        @Config.Comment("Log every chunk loaded while Cuisine world generation is running, which means the generation causes cascading chunk loads.")
+        @Config.LangKey("cuisine.config.general.world_gen_debug")
+        @Config.Name("WorldGenDebug")
+        @Config.RequiresMcRestart
+        public boolean worldGenDebug = false;
     }
 
     @Config.Comment("Progression features of Cuisine.")
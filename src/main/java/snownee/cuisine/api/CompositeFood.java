@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 
 import javax.annotation.Nonnull;
@@ -76,6 +77,20 @@ public abstract class CompositeFood
      */
     private transient boolean requireFoodStateRefresh = true;
 
+    /**
+     * Modification counter, incremented whenever this is changed. Not serialized.
+     * @see #getVersion()
+     */
+    private transient int version = 0;
+
+    /**
+     * Cached result of {@link #getCategoryLevels()}, valid for {@link #categoryLevelsVersion}.
+     * Not serialized.
+     */
+    @Nullable
+    private transient double[] categoryLevels;
+    private transient int categoryLevelsVersion;
+
     /**
      * The overall quality bonus of this Dish, initial to 1.
      */
@@ -232,6 +247,7 @@ public abstract class CompositeFood
         strategy.endCook();
 
         requireFoodStateRefresh = true;
+        ++version;
         return strategy.result();
     }
 
@@ -243,6 +259,7 @@ public abstract class CompositeFood
             seasoning.getSpice().onAddedInto(this, vessel);
         }
         requireFoodStateRefresh = true;
+        ++version;
         return this;
     }
 
@@ -254,6 +271,7 @@ public abstract class CompositeFood
     public CompositeFood addIngredient(final Ingredient ingredient)
     {
         requireFoodStateRefresh = true;
+        ++version;
         for (Ingredient i : ingredients)
         {
             if (i.equalsIgnoreSize(ingredient))
@@ -271,6 +289,7 @@ public abstract class CompositeFood
         if (!contains(effect))
         {
             this.effects.add(effect);
+            ++version;
         }
         return this;
     }
@@ -287,6 +306,7 @@ public abstract class CompositeFood
         }
         seasonings.add(newSeasoning);
         requireFoodStateRefresh = true;
+        ++version;
         return true;
     }
 
@@ -325,6 +345,41 @@ public abstract class CompositeFood
         return effects.contains(effect) || ingredients.stream().anyMatch(i -> i.getEffects().contains(effect));
     }
 
+    /**
+     * Get the modification counter of this. It changes whenever ingredients, seasonings,
+     * effects or serves of this change, so that data derived from this composite (e.g.
+     * tooltips) can be cached and reused as long as the version stays the same.
+     * @return Current version of this composite
+     */
+    public final int getVersion()
+    {
+        return version;
+    }
+
+    /**
+     * Get the total size of ingredients in each material category. An ingredient counts
+     * towards every category of its material.
+     * @return An array indexed by {@link MaterialCategory#ordinal()}. It is computed once for
+     *         each version of this composite and shared by all callers, so do not modify it.
+     */
+    public final double[] getCategoryLevels()
+    {
+        if (categoryLevels == null || categoryLevelsVersion != version)
+        {
+            double[] levels = new double[MaterialCategory.values().length];
+            for (Ingredient ingredient : ingredients)
+            {
+                for (MaterialCategory category : ingredient.getMaterial().getCategories())
+                {
+                    levels[category.ordinal()] += ingredient.getSize();
+                }
+            }
+            categoryLevels = levels;
+            categoryLevelsVersion = version;
+        }
+        return categoryLevels;
+    }
+
     public float getSaturationModifier()
     {
         refreshState();
@@ -404,6 +459,7 @@ public abstract class CompositeFood
     public void setServes(int durability)
     {
         this.durability = durability;
+        ++version;
     }
 
     /**
@@ -472,6 +528,8 @@ public abstract class CompositeFood
         }
 
         collector.apply(this, playerIn);
+        requireFoodStateRefresh = true;
+        ++version;
     }
 
     public void onEaten(ItemStack stack, World worldIn, EntityPlayer player)
@@ -558,12 +616,24 @@ public abstract class CompositeFood
     // TODO Migrate to incoming Recipe system
     public abstract String getOrComputeModelType();
 
+    /**
+     * Same as {@link #getOrComputeModelType()}, but draw from the given random if there are
+     * several models to choose from, e.g. the one of the vessel completing this.
+     */
+    public String getOrComputeModelType(Random rand)
+    {
+        return this.getOrComputeModelType();
+    }
+
     // TODO Migrate to incoming Recipe system
     public abstract void setModelType(String type);
 
     public void removeEffect(Effect effect) // TODO?
     {
-        this.effects.removeIf(e -> e == effect);
+        if (this.effects.removeIf(e -> e == effect))
+        {
+            ++version;
+        }
     }
 
     // TODO A big question: CompositeFood.Builder? For those "unfinished food".
@@ -1,5 +1,8 @@
 package snownee.cuisine.api;
 
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
 public interface CookingVessel
 {
 
@@ -18,4 +21,15 @@ public interface CookingVessel
      */
     int getOilAmount();
 
+    /**
+     * @return Source of randomness for everything cooked in this CookingVessel, including
+     *         {@link CookingStrategy} and {@link Material#onCooked}. Implementations should
+     *         seed it from their position and the world seed, so that cooking is reproducible.
+     *         Default to the random of the current thread.
+     */
+    default Random getRandom()
+    {
+        return ThreadLocalRandom.current();
+    }
+
 }
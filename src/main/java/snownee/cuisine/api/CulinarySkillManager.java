@@ -1,9 +1,15 @@
 package snownee.cuisine.api;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
+import java.util.TreeMap;
 
 import mcp.MethodsReturnNonnullByDefault;
 
@@ -11,6 +17,16 @@ import mcp.MethodsReturnNonnullByDefault;
 public final class CulinarySkillManager
 {
     private Map<CulinarySkill, Integer> mapSkillToLevelRequirement = new HashMap<>();
+    /**
+     * Registered skills in the order of registration, so that each skill has a stable
+     * index that can be used in a bit set.
+     */
+    private List<CulinarySkill> skillsByIndex = new ArrayList<>();
+    private Map<CulinarySkill, Integer> mapSkillToIndex = new HashMap<>();
+    /**
+     * Skills grouped by the skill point they require, then sorted by level requirement.
+     */
+    private Map<CulinarySkillPoint, NavigableMap<Integer, List<CulinarySkill>>> mapThresholdToSkills = new EnumMap<>(CulinarySkillPoint.class);
     private static CulinarySkillManager INSTANCE;
 
     public static CulinarySkillManager instance()
@@ -29,9 +45,47 @@ public final class CulinarySkillManager
             throw new IllegalArgumentException("Already registered");
         }
         instance().mapSkillToLevelRequirement.put(type, type.defaultLevelRequirement());
+        instance().mapSkillToIndex.put(type, instance().skillsByIndex.size());
+        instance().skillsByIndex.add(type);
+        instance().mapThresholdToSkills.computeIfAbsent(type.skillPointRequirement(), k -> new TreeMap<>()).computeIfAbsent(type.defaultLevelRequirement(), k -> new ArrayList<>()).add(type);
         return type;
     }
 
+    /**
+     * Find skills unlocked when level of the given skill point goes from oldLevel to newLevel.
+     * @param skillPoint The skill point that was increased
+     * @param oldLevel Level before the increment, exclusive
+     * @param newLevel Level after the increment, inclusive
+     * @return Lists of unlocked skills, in the order of level requirement
+     */
+    public static Collection<List<CulinarySkill>> getSkillsUnlockedBetween(CulinarySkillPoint skillPoint, int oldLevel, int newLevel)
+    {
+        NavigableMap<Integer, List<CulinarySkill>> thresholds = instance().mapThresholdToSkills.get(skillPoint);
+        if (thresholds == null || newLevel <= oldLevel)
+        {
+            return Collections.emptyList();
+        }
+        return thresholds.subMap(oldLevel, false, newLevel, true).values();
+    }
+
+    /**
+     * @param skill The skill to query
+     * @return Index of the given skill, or -1 if it is not registered
+     */
+    public static int getSkillIndex(CulinarySkill skill)
+    {
+        return instance().mapSkillToIndex.getOrDefault(skill, -1);
+    }
+
+    /**
+     * @return All registered skills, where the position of a skill is its index
+     * @see #getSkillIndex(CulinarySkill)
+     */
+    public static List<CulinarySkill> getSkillsByIndex()
+    {
+        return Collections.unmodifiableList(instance().skillsByIndex);
+    }
+
     public static int getLevelRequirement(CulinarySkill skill)
     {
         return instance().mapSkillToLevelRequirement.getOrDefault(skill, 0);
@@ -2,6 +2,8 @@ package snownee.cuisine.api;
 
 import com.google.common.collect.ImmutableList;
 
+import snownee.cuisine.api.util.SkillUtil;
+
 /**
  * The storage of culinary skill data of a certain target, usually
  * an entity.
@@ -24,4 +26,16 @@ public interface CulinarySkillPointContainer
 
     ImmutableList<CulinarySkillPoint> getAvailableSkillPoints();
 
+    /**
+     * Check whether the given skill is unlocked by current skill points. Implementations
+     * are encouraged to cache the result, as this is checked on every interaction with
+     * many cooking utensils.
+     * @param skill the skill to check
+     * @return true if the skill level of this reaches the requirement of given skill
+     */
+    default boolean hasLearnedSkill(CulinarySkill skill)
+    {
+        return SkillUtil.getLevel(getSkillPoint(skill.skillPointRequirement())) >= CulinarySkillManager.getLevelRequirement(skill);
+    }
+
 }
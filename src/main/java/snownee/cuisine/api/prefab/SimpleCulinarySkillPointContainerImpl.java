@@ -1,7 +1,12 @@
 package snownee.cuisine.api.prefab;
 
+import java.util.BitSet;
+import java.util.List;
+
 import com.google.common.collect.ImmutableList;
 
+import snownee.cuisine.api.CulinarySkill;
+import snownee.cuisine.api.CulinarySkillManager;
 import snownee.cuisine.api.CulinarySkillPoint;
 import snownee.cuisine.api.CulinarySkillPointContainer;
 
@@ -17,6 +22,17 @@ public class SimpleCulinarySkillPointContainerImpl implements CulinarySkillPoint
     private int proficiency = 0;
     private int expertise = 0;
 
+    /**
+     * Unlocked skills, indexed by {@link CulinarySkillManager#getSkillIndex}. It is
+     * recomputed lazily after skill points change, so that checking a skill is a single
+     * bit test. Null means it is outdated.
+     */
+    private BitSet learnedSkills = null;
+    /**
+     * Number of registered skills when {@link #learnedSkills} was computed.
+     */
+    private int knownSkillCount = 0;
+
     /**
      * {@inheritDoc}
      */
@@ -43,16 +59,43 @@ public class SimpleCulinarySkillPointContainerImpl implements CulinarySkillPoint
         if (skillPoint == CulinarySkillPoint.EXPERTISE)
         {
             expertise = newValue;
+            learnedSkills = null;
             return true;
         }
         else if (skillPoint == CulinarySkillPoint.PROFICIENCY)
         {
             proficiency = newValue;
+            learnedSkills = null;
             return true;
         }
         return false;
     }
 
+    @Override
+    public boolean hasLearnedSkill(CulinarySkill skill)
+    {
+        int index = CulinarySkillManager.getSkillIndex(skill);
+        if (index < 0)
+        {
+            return CulinarySkillPointContainer.super.hasLearnedSkill(skill);
+        }
+        if (learnedSkills == null || index >= knownSkillCount)
+        {
+            List<CulinarySkill> skills = CulinarySkillManager.getSkillsByIndex();
+            BitSet bits = new BitSet(skills.size());
+            for (int i = 0; i < skills.size(); i++)
+            {
+                if (CulinarySkillPointContainer.super.hasLearnedSkill(skills.get(i)))
+                {
+                    bits.set(i);
+                }
+            }
+            learnedSkills = bits;
+            knownSkillCount = skills.size();
+        }
+        return learnedSkills.get(index);
+    }
+
     @Override
     public ImmutableList<CulinarySkillPoint> getAvailableSkillPoints()
     {
@@ -62,4 +62,24 @@ public class Chopping implements CuisineProcessingRecipe
         return output;
     }
 
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass())
+        {
+            return false;
+        }
+        return input.equals(((Chopping) o).input);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return input.hashCode();
+    }
+
 }
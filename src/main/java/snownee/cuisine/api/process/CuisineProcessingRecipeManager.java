@@ -1,7 +1,9 @@
 package snownee.cuisine.api.process;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -50,6 +52,26 @@ public interface CuisineProcessingRecipeManager<R extends CuisineProcessingRecip
      */
     void removeAll();
 
+    /**
+     * Remove all recipe objects that match the given filter, then add the given recipe
+     * objects. Implementations should do it in one pass, so that applying a large number
+     * of changes at once is not quadratic.
+     *
+     * @param removal Filter of recipe objects to remove.
+     * @param additions Recipe objects to add after removal.
+     */
+    default void update(@Nonnull Predicate<? super R> removal, @Nonnull Collection<R> additions)
+    {
+        for (R recipe : new ArrayList<>(this.preview()))
+        {
+            if (removal.test(recipe))
+            {
+                this.remove(recipe);
+            }
+        }
+        additions.forEach(this::add);
+    }
+
     /**
      *
      * @return recipe object that matches inputs; null if otherwise.
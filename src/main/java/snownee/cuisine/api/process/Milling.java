@@ -117,7 +117,7 @@ public final class Milling implements CuisineProcessingRecipe
     @Override
     public int hashCode()
     {
-        return input.hashCode() * 17 + inputFluid.hashCode();
+        return input.hashCode() * 17 + (inputFluid == null ? 0 : inputFluid.hashCode());
     }
 
     public static boolean isKnownMillingInput(ItemStack stack)
@@ -143,7 +143,8 @@ public final class Vessel implements CuisineProcessingRecipe
     {
         int result = input.hashCode();
         result = 31 * result + solvent.hashCode();
-        result = 31 * result + extraRequirement.hashCode();
+        // Empty requirements are all equal, see equals
+        result = 31 * result + (extraRequirement.isEmpty() ? 0 : extraRequirement.hashCode());
         return result;
     }
 }
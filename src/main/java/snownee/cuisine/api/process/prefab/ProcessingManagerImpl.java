@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -47,6 +48,13 @@ public final class ProcessingManagerImpl<R extends CuisineProcessingRecipe> impl
         recipes.clear();
     }
 
+    @Override
+    public void update(Predicate<? super R> removal, Collection<R> additions)
+    {
+        recipes.removeIf(removal);
+        recipes.addAll(additions);
+    }
+
     @Nullable
     @Override
     public R findRecipe(Object... inputs)
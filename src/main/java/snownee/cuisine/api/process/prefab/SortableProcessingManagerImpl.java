@@ -5,6 +5,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
@@ -77,4 +78,11 @@ public final class SortableProcessingManagerImpl<R extends CuisineProcessingReci
     {
         recipes.clear();
     }
+
+    @Override
+    public void update(Predicate<? super R> removal, Collection<R> additions)
+    {
+        recipes.removeIf(removal);
+        recipes.addAll(additions);
+    }
 }
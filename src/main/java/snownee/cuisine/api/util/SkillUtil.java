@@ -1,6 +1,9 @@
 package snownee.cuisine.api.util;
 
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -20,6 +23,13 @@ import snownee.cuisine.api.events.SkillPointUpdateEvent;
 @ParametersAreNonnullByDefault
 public class SkillUtil
 {
+    /**
+     * Skill point deltas not yet applied, indexed by ordinal of {@link CulinarySkillPoint}.
+     * They are applied once per tick by {@link #flushPendingPoints()}, so that repeated
+     * actions in a tick result in a single {@link SkillPointUpdateEvent} per skill point.
+     */
+    private static final Map<EntityPlayerMP, int[]> PENDING_POINTS = new HashMap<>();
+
     public static int getPoint(EntityPlayerMP player, CulinarySkillPoint skillPoint)
     {
         CulinarySkillPointContainer cap = player.getCapability(CulinaryCapabilities.CULINARY_SKILL, null);
@@ -64,9 +74,71 @@ public class SkillUtil
         setPoint(player, skillPoint, level * 50);
     }
 
+    /**
+     * Increase skill points of player. The delta is buffered and applied at the end of
+     * current server tick together with other deltas of the same player, so
+     * {@link #getPoint} does not reflect it until then.
+     *
+     * @param player 玩家
+     * @param skillPoint  技能
+     * @param delta  增加的点数
+     */
     public static void increasePoint(EntityPlayerMP player, CulinarySkillPoint skillPoint, int delta)
     {
-        setPoint(player, skillPoint, getPoint(player, skillPoint) + delta);
+        if (delta == 0)
+        {
+            return;
+        }
+        int[] pending = PENDING_POINTS.get(player);
+        if (pending == null)
+        {
+            PENDING_POINTS.put(player, pending = new int[CulinarySkillPoint.values().length]);
+        }
+        pending[skillPoint.ordinal()] += delta;
+    }
+
+    /**
+     * Apply all buffered skill point deltas, firing one {@link SkillPointUpdateEvent} per
+     * player and skill point.
+     */
+    public static void flushPendingPoints()
+    {
+        if (PENDING_POINTS.isEmpty())
+        {
+            return;
+        }
+        Iterator<Map.Entry<EntityPlayerMP, int[]>> itr = PENDING_POINTS.entrySet().iterator();
+        while (itr.hasNext())
+        {
+            Map.Entry<EntityPlayerMP, int[]> entry = itr.next();
+            itr.remove();
+            applyPendingPoints(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Apply buffered skill point deltas of the given player immediately, e.g. before the
+     * player leaves the server.
+     */
+    public static void flushPendingPoints(EntityPlayerMP player)
+    {
+        int[] pending = PENDING_POINTS.remove(player);
+        if (pending != null)
+        {
+            applyPendingPoints(player, pending);
+        }
+    }
+
+    private static void applyPendingPoints(EntityPlayerMP player, int[] pending)
+    {
+        CulinarySkillPoint[] skillPoints = CulinarySkillPoint.values();
+        for (int i = 0; i < pending.length; i++)
+        {
+            if (pending[i] != 0)
+            {
+                setPoint(player, skillPoints[i], Math.max(0, getPoint(player, skillPoints[i]) + pending[i]));
+            }
+        }
     }
 
     /**
@@ -83,9 +155,8 @@ public class SkillUtil
 
     public static boolean hasPlayerLearnedSkill(EntityPlayerMP player, CulinarySkill skill)
     {
-        int pointPlayer = getLevel(player, skill.skillPointRequirement());
-        int pointReq = CulinarySkillManager.getLevelRequirement(skill);
-        return pointPlayer >= pointReq;
+        CulinarySkillPointContainer cap = player.getCapability(CulinaryCapabilities.CULINARY_SKILL, null);
+        return cap != null && cap.hasLearnedSkill(skill);
     }
 
     public static List<String> getKnownSkillNames()
@@ -0,0 +1,157 @@
+package snownee.cuisine.blocks;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import snownee.cuisine.Cuisine;
+import snownee.cuisine.library.BlockUpdateListener;
+
+/**
+ * Connections of {@link BlockBamboo}, cached by position for each world on both sides.
+ * <p>
+ * A bamboo frame connects to its 4 horizontal neighbors, the block below and the 4
+ * diagonal neighbors. Entities moving around query the collision boxes constantly, so
+ * instead of reading up to 9 blocks each time, the connection mask is kept until any of
+ * these blocks is updated, or a chunk next to it is loaded.
+ */
+@EventBusSubscriber(modid = Cuisine.MODID)
+public final class BambooShapeCache extends BlockUpdateListener
+{
+    /**
+     * Offsets of bamboo frames whose connections depend on a block: itself, the 4 beside
+     * it, the 4 diagonal to it and the one above it.
+     */
+    private static final int[][] DEPENDENTS = { { 0, 0, 0 }, { 0, 0, -1 }, { 0, 0, 1 }, { -1, 0, 0 }, { 1, 0, 0 }, { 1, 0, -1 }, { -1, 0, -1 }, { 1, 0, 1 }, { -1, 0, 1 }, { 0, 1, 0 } };
+
+    /**
+     * Keyed by world identity. Server and client worlds are loaded on different threads
+     * in single player.
+     */
+    private static final Map<World, BambooShapeCache> CACHES = new ConcurrentHashMap<>();
+
+    /**
+     * Connection masks, keyed by chunk, then by position.
+     */
+    private final Long2ObjectOpenHashMap<Long2IntOpenHashMap> chunks = new Long2ObjectOpenHashMap<>();
+
+    private BambooShapeCache()
+    {
+    }
+
+    static int getConnections(BlockBamboo block, IBlockAccess world, BlockPos pos)
+    {
+        BambooShapeCache cache = world instanceof World ? CACHES.get(world) : null;
+        if (cache == null)
+        {
+            return block.computeConnections(world, pos);
+        }
+        long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        Long2IntOpenHashMap masks = cache.chunks.get(chunkKey);
+        if (masks == null)
+        {
+            cache.chunks.put(chunkKey, masks = new Long2IntOpenHashMap());
+            masks.defaultReturnValue(-1);
+        }
+        long key = BlockUpdateListener.toLong(pos.getX(), pos.getY(), pos.getZ());
+        int mask = masks.get(key);
+        if (mask < 0)
+        {
+            mask = block.computeConnections(world, pos);
+            masks.put(key, mask);
+        }
+        return mask;
+    }
+
+    static void invalidate(World world, BlockPos pos)
+    {
+        BambooShapeCache cache = CACHES.get(world);
+        if (cache != null)
+        {
+            cache.invalidateAround(pos);
+        }
+    }
+
+    private void invalidateAround(BlockPos pos)
+    {
+        if (chunks.isEmpty())
+        {
+            return;
+        }
+        for (int[] offset : DEPENDENTS)
+        {
+            int x = pos.getX() + offset[0];
+            int z = pos.getZ() + offset[2];
+            Long2IntOpenHashMap masks = chunks.get(ChunkPos.asLong(x >> 4, z >> 4));
+            if (masks != null)
+            {
+                masks.remove(BlockUpdateListener.toLong(x, pos.getY() + offset[1], z));
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldLoad(WorldEvent.Load event)
+    {
+        BambooShapeCache cache = new BambooShapeCache();
+        CACHES.put(event.getWorld(), cache);
+        event.getWorld().addEventListener(cache);
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event)
+    {
+        BambooShapeCache cache = CACHES.remove(event.getWorld());
+        if (cache != null)
+        {
+            event.getWorld().removeEventListener(cache);
+        }
+    }
+
+    /**
+     * Frames on the border of the chunks around read a chunk not loaded yet as air, and no
+     * block update is sent when it arrives on the client. Forget the connections of the
+     * chunks around, so that they are computed again with the blocks of this one.
+     */
+    @SubscribeEvent
+    public static void onChunkLoad(ChunkEvent.Load event)
+    {
+        BambooShapeCache cache = CACHES.get(event.getWorld());
+        if (cache != null && !cache.chunks.isEmpty())
+        {
+            for (int x = -1; x <= 1; x++)
+            {
+                for (int z = -1; z <= 1; z++)
+                {
+                    cache.chunks.remove(ChunkPos.asLong(event.getChunk().x + x, event.getChunk().z + z));
+                }
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event)
+    {
+        BambooShapeCache cache = CACHES.get(event.getWorld());
+        if (cache != null)
+        {
+            cache.chunks.remove(ChunkPos.asLong(event.getChunk().x, event.getChunk().z));
+        }
+    }
+
+    @Override
+    public void notifyBlockUpdate(World worldIn, BlockPos pos, IBlockState oldState, IBlockState newState, int flags)
+    {
+        invalidateAround(pos);
+    }
+}
@@ -2,10 +2,8 @@ package snownee.cuisine.blocks;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map.Entry;
-
-import com.google.common.collect.ImmutableMap;
 
+import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.properties.PropertyBool;
 import net.minecraft.block.state.BlockFaceShape;
@@ -37,6 +35,95 @@ public class BlockBamboo extends BlockMod
     public static final AxisAlignedBB PLATE_AABB = new AxisAlignedBB(0.3125D, 0.625D, 0.3125D, 1, 1, 1);
     public static final AxisAlignedBB SIDE_AABB = new AxisAlignedBB(0.375D, 0.625D, 0.375D, 1, 0.875D, 0.625D);
 
+    /**
+     * Connection properties, where the index of a property is its bit in a connection mask.
+     */
+    private static final PropertyBool[] CONNECTIONS = { NORTH, SOUTH, WEST, EAST, DOWN, NE, NW, SE, SW };
+    private static final int BIT_NORTH = 1, BIT_SOUTH = 1 << 1, BIT_WEST = 1 << 2, BIT_EAST = 1 << 3, BIT_DOWN = 1 << 4;
+    private static final int BIT_NE = 1 << 5, BIT_NW = 1 << 6, BIT_SE = 1 << 7, BIT_SW = 1 << 8;
+    /**
+     * Directions of the first 5 entries of {@link #CONNECTIONS}.
+     */
+    private static final EnumFacing[] CONNECTION_FACINGS = { EnumFacing.NORTH, EnumFacing.SOUTH, EnumFacing.WEST, EnumFacing.EAST, EnumFacing.DOWN };
+
+    /**
+     * Collision boxes of every connection mask.
+     */
+    private static final AxisAlignedBB[][] COLLISION_BOXES = new AxisAlignedBB[1 << CONNECTIONS.length][];
+    /**
+     * Union of {@link #COLLISION_BOXES} of every connection mask.
+     */
+    private static final AxisAlignedBB[] BOUNDING_BOXES = new AxisAlignedBB[1 << CONNECTIONS.length];
+
+    static
+    {
+        AxisAlignedBB plateNW = AABBUtil.rotate(PLATE_AABB, EnumFacing.SOUTH);
+        AxisAlignedBB plateNE = AABBUtil.rotate(PLATE_AABB, EnumFacing.EAST);
+        AxisAlignedBB plateSW = AABBUtil.rotate(PLATE_AABB, EnumFacing.WEST);
+        AxisAlignedBB sideNorth = AABBUtil.rotate(SIDE_AABB, EnumFacing.EAST);
+        AxisAlignedBB sideSouth = AABBUtil.rotate(SIDE_AABB, EnumFacing.WEST);
+        AxisAlignedBB sideWest = AABBUtil.rotate(SIDE_AABB, EnumFacing.SOUTH);
+
+        List<AxisAlignedBB> aabbs = new ArrayList<>();
+        for (int mask = 0; mask < COLLISION_BOXES.length; ++mask)
+        {
+            aabbs.clear();
+            if (has(mask, BIT_DOWN) || !has(mask, BIT_NORTH | BIT_SOUTH | BIT_EAST | BIT_WEST))
+            {
+                aabbs.add(BlockBambooPlant.AABB);
+            }
+
+            if (has(mask, BIT_NW))
+            {
+                aabbs.add(plateNW);
+            }
+            if (has(mask, BIT_NE))
+            {
+                aabbs.add(plateNE);
+            }
+            if (has(mask, BIT_SW))
+            {
+                aabbs.add(plateSW);
+            }
+            if (has(mask, BIT_SE))
+            {
+                aabbs.add(PLATE_AABB);
+            }
+
+            if (!has(mask, BIT_NW | BIT_NE) && has(mask, BIT_NORTH))
+            {
+                aabbs.add(sideNorth);
+            }
+            if (!has(mask, BIT_SW | BIT_SE) && has(mask, BIT_SOUTH))
+            {
+                aabbs.add(sideSouth);
+            }
+            if (!has(mask, BIT_NW | BIT_SW) && has(mask, BIT_WEST))
+            {
+                aabbs.add(sideWest);
+            }
+            if (!has(mask, BIT_SE | BIT_NE) && has(mask, BIT_EAST))
+            {
+                aabbs.add(SIDE_AABB);
+            }
+
+            COLLISION_BOXES[mask] = aabbs.toArray(new AxisAlignedBB[0]);
+            if (aabbs.isEmpty())
+            {
+                BOUNDING_BOXES[mask] = FULL_BLOCK_AABB;
+            }
+            else
+            {
+                AxisAlignedBB aabb = aabbs.get(0);
+                for (int i = 1; i < aabbs.size(); ++i)
+                {
+                    aabb = aabb.union(aabbs.get(i));
+                }
+                BOUNDING_BOXES[mask] = aabb;
+            }
+        }
+    }
+
     public BlockBamboo(String name)
     {
         super(name, Material.WOOD);
@@ -49,8 +136,7 @@ public class BlockBamboo extends BlockMod
     @Override
     public boolean isLadder(IBlockState state, IBlockAccess world, BlockPos pos, EntityLivingBase entity)
     {
-        state = getActualState(state, world, pos);
-        return state.getValue(DOWN) || state.getValue(NE) || state.getValue(NW) || state.getValue(SE) || state.getValue(SW) || entity.posY < pos.getY() + 0.875D;
+        return has(BambooShapeCache.getConnections(this, world, pos), BIT_DOWN | BIT_NE | BIT_NW | BIT_SE | BIT_SW) || entity.posY < pos.getY() + 0.875D;
     }
 
     @Override
@@ -62,72 +148,25 @@ public class BlockBamboo extends BlockMod
     @Override
     public AxisAlignedBB getBoundingBox(IBlockState state, IBlockAccess source, BlockPos pos)
     {
-        List<AxisAlignedBB> aabbs = new ArrayList<>();
-        addCollisionBoxToListInternal(state, source, pos, new AxisAlignedBB(pos), aabbs, null, false);
-        if (aabbs.size() == 0)
-        {
-            return FULL_BLOCK_AABB;
-        }
-        AxisAlignedBB aabb = aabbs.get(0);
-        for (int i = 1; i < aabbs.size(); ++i)
-        {
-            aabb = aabb.union(aabbs.get(i));
-        }
-        return aabb.offset(new BlockPos(-pos.getX(), -pos.getY(), -pos.getZ()));
+        return BOUNDING_BOXES[BambooShapeCache.getConnections(this, source, pos)];
     }
 
-    @SuppressWarnings("deprecation")
-    private static void addCollisionBoxToListInternal(IBlockState state, IBlockAccess worldIn, BlockPos pos, AxisAlignedBB entityBox, List<AxisAlignedBB> collidingBoxes, Entity entityIn, boolean isActualState)
+    @Override
+    public void addCollisionBoxToList(IBlockState state, World worldIn, BlockPos pos, AxisAlignedBB entityBox, List<AxisAlignedBB> collidingBoxes, Entity entityIn, boolean isActualState)
     {
-        if (!isActualState)
-        {
-            state = state.getActualState(worldIn, pos);
-        }
-
-        if (state.getValue(DOWN) || !(state.getValue(NORTH) || state.getValue(SOUTH) || state.getValue(EAST) || state.getValue(WEST)))
+        int mask = isActualState ? getConnections(state) : BambooShapeCache.getConnections(this, worldIn, pos);
+        for (AxisAlignedBB aabb : COLLISION_BOXES[mask])
         {
-            addCollisionBoxToList(pos, entityBox, collidingBoxes, BlockBambooPlant.AABB);
-        }
-
-        if (state.getValue(NW))
-        {
-            addCollisionBoxToList(pos, entityBox, collidingBoxes, AABBUtil.rotate(PLATE_AABB, EnumFacing.SOUTH));
-        }
-        if (state.getValue(NE))
-        {
-            addCollisionBoxToList(pos, entityBox, collidingBoxes, AABBUtil.rotate(PLATE_AABB, EnumFacing.EAST));
-        }
-        if (state.getValue(SW))
-        {
-            addCollisionBoxToList(pos, entityBox, collidingBoxes, AABBUtil.rotate(PLATE_AABB, EnumFacing.WEST));
-        }
-        if (state.getValue(SE))
-        {
-            addCollisionBoxToList(pos, entityBox, collidingBoxes, PLATE_AABB);
-        }
-
-        if (!state.getValue(NW) && !state.getValue(NE) && state.getValue(NORTH))
-        {
-            addCollisionBoxToList(pos, entityBox, collidingBoxes, AABBUtil.rotate(SIDE_AABB, EnumFacing.EAST));
-        }
-        if (!state.getValue(SW) && !state.getValue(SE) && state.getValue(SOUTH))
-        {
-            addCollisionBoxToList(pos, entityBox, collidingBoxes, AABBUtil.rotate(SIDE_AABB, EnumFacing.WEST));
-        }
-        if (!state.getValue(NW) && !state.getValue(SW) && state.getValue(WEST))
-        {
-            addCollisionBoxToList(pos, entityBox, collidingBoxes, AABBUtil.rotate(SIDE_AABB, EnumFacing.SOUTH));
-        }
-        if (!state.getValue(SE) && !state.getValue(NE) && state.getValue(EAST))
-        {
-            addCollisionBoxToList(pos, entityBox, collidingBoxes, SIDE_AABB);
+            addCollisionBoxToList(pos, entityBox, collidingBoxes, aabb);
         }
     }
 
+    @SuppressWarnings("deprecation")
     @Override
-    public void addCollisionBoxToList(IBlockState state, World worldIn, BlockPos pos, AxisAlignedBB entityBox, List<AxisAlignedBB> collidingBoxes, Entity entityIn, boolean isActualState)
+    public void neighborChanged(IBlockState state, World worldIn, BlockPos pos, Block blockIn, BlockPos fromPos)
     {
-        addCollisionBoxToListInternal(state, worldIn, pos, entityBox, collidingBoxes, entityIn, isActualState);
+        BambooShapeCache.invalidate(worldIn, pos);
+        super.neighborChanged(state, worldIn, pos, blockIn, fromPos);
     }
 
     @Override
@@ -145,56 +184,79 @@ public class BlockBamboo extends BlockMod
     @Override
     public IBlockState getActualState(IBlockState state, IBlockAccess worldIn, BlockPos pos)
     {
-        ImmutableMap<EnumFacing, PropertyBool> map = ImmutableMap.of(EnumFacing.NORTH, NORTH, EnumFacing.SOUTH, SOUTH, EnumFacing.EAST, EAST, EnumFacing.WEST, WEST, EnumFacing.DOWN, DOWN);
-        for (Entry<EnumFacing, PropertyBool> entry : map.entrySet())
+        int mask = BambooShapeCache.getConnections(this, worldIn, pos);
+        for (int i = 0; i < CONNECTIONS.length; ++i)
         {
-            BlockPos pos2 = pos.offset(entry.getKey());
+            if (has(mask, 1 << i))
+            {
+                state = state.withProperty(CONNECTIONS[i], Boolean.TRUE);
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Check the surroundings of a bamboo frame. Use {@link BambooShapeCache#getConnections}
+     * instead, which caches the result.
+     * @return Connection mask, where each bit corresponds to a property in {@link #CONNECTIONS}
+     */
+    int computeConnections(IBlockAccess worldIn, BlockPos pos)
+    {
+        int mask = 0;
+        for (int i = 0; i < 5; ++i)
+        {
+            EnumFacing facing = CONNECTION_FACINGS[i];
+            BlockPos pos2 = pos.offset(facing);
             IBlockState stateFaced = worldIn.getBlockState(pos2);
-            if (stateFaced.getBlock() == this || stateFaced.isSideSolid(worldIn, pos2, entry.getKey().getOpposite()))
+            if (stateFaced.getBlock() == this || stateFaced.isSideSolid(worldIn, pos2, facing.getOpposite()))
             {
-                state = state.withProperty(entry.getValue(), Boolean.TRUE);
+                mask |= 1 << i;
             }
         }
         //        if (worldIn.getBlockState(pos.up()).getBlock() != this)
         {
-            if (state.getValue(NORTH) && state.getValue(EAST))
+            if (has(mask, BIT_NORTH) && has(mask, BIT_EAST) && isCornerSupport(worldIn, pos.north().east()))
             {
-                BlockPos posFaced = pos.offset(EnumFacing.NORTH).offset(EnumFacing.EAST);
-                IBlockState stateFaced = worldIn.getBlockState(posFaced);
-                if (stateFaced.getBlock() == this || stateFaced.isFullBlock())
-                {
-                    state = state.withProperty(NE, Boolean.TRUE);
-                }
+                mask |= BIT_NE;
             }
-            if (state.getValue(NORTH) && state.getValue(WEST))
+            if (has(mask, BIT_NORTH) && has(mask, BIT_WEST) && isCornerSupport(worldIn, pos.north().west()))
             {
-                BlockPos posFaced = pos.offset(EnumFacing.NORTH).offset(EnumFacing.WEST);
-                IBlockState stateFaced = worldIn.getBlockState(posFaced);
-                if (stateFaced.getBlock() == this || stateFaced.isFullBlock())
-                {
-                    state = state.withProperty(NW, Boolean.TRUE);
-                }
+                mask |= BIT_NW;
             }
-            if (state.getValue(SOUTH) && state.getValue(EAST))
+            if (has(mask, BIT_SOUTH) && has(mask, BIT_EAST) && isCornerSupport(worldIn, pos.south().east()))
             {
-                BlockPos posFaced = pos.offset(EnumFacing.SOUTH).offset(EnumFacing.EAST);
-                IBlockState stateFaced = worldIn.getBlockState(posFaced);
-                if (stateFaced.getBlock() == this || stateFaced.isFullBlock())
-                {
-                    state = state.withProperty(SE, Boolean.TRUE);
-                }
+                mask |= BIT_SE;
             }
-            if (state.getValue(SOUTH) && state.getValue(WEST))
+            if (has(mask, BIT_SOUTH) && has(mask, BIT_WEST) && isCornerSupport(worldIn, pos.south().west()))
             {
-                BlockPos posFaced = pos.offset(EnumFacing.SOUTH).offset(EnumFacing.WEST);
-                IBlockState stateFaced = worldIn.getBlockState(posFaced);
-                if (stateFaced.getBlock() == this || stateFaced.isFullBlock())
-                {
-                    state = state.withProperty(SW, Boolean.TRUE);
-                }
+                mask |= BIT_SW;
             }
         }
-        return state;
+        return mask;
+    }
+
+    private boolean isCornerSupport(IBlockAccess worldIn, BlockPos posFaced)
+    {
+        IBlockState stateFaced = worldIn.getBlockState(posFaced);
+        return stateFaced.getBlock() == this || stateFaced.isFullBlock();
+    }
+
+    private static int getConnections(IBlockState actualState)
+    {
+        int mask = 0;
+        for (int i = 0; i < CONNECTIONS.length; ++i)
+        {
+            if (actualState.getValue(CONNECTIONS[i]))
+            {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    private static boolean has(int mask, int bits)
+    {
+        return (mask & bits) != 0;
     }
 
     @Override
@@ -120,6 +120,7 @@ public class BlockCuisineCrops extends BlockMod implements IGrowable, IPlantable
     @Override
     public void neighborChanged(IBlockState state, World worldIn, BlockPos pos, Block blockIn, BlockPos fromPos)
     {
+        GrowthChanceCache.invalidate(worldIn, fromPos);
         checkAndDropBlock(worldIn, pos, state);
     }
 
@@ -174,7 +175,7 @@ public class BlockCuisineCrops extends BlockMod implements IGrowable, IPlantable
 
             if (i < this.getMaxAge())
             {
-                float f = getGrowthChance(this, worldIn, pos);
+                float f = GrowthChanceCache.getGrowthChance(this, worldIn, pos);
 
                 if (net.minecraftforge.common.ForgeHooks.onCropsGrowPre(worldIn, pos, state, rand.nextInt((int) (25.0F / f) + 1) == 0))
                 {
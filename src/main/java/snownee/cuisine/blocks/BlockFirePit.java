@@ -6,8 +6,6 @@ import java.util.Random;
 
 import javax.annotation.Nullable;
 
-import com.google.common.collect.Lists;
-
 import net.minecraft.block.BlockHorizontal;
 import net.minecraft.block.SoundType;
 import net.minecraft.block.material.Material;
@@ -58,6 +56,40 @@ public class BlockFirePit extends BlockModHorizontal
     private static final AxisAlignedBB AABB_WITH_WOK = new AxisAlignedBB(0D, 0D, 0D, 1D, 0.475D, 1D);
     private static final AxisAlignedBB AABB_STICKS = new AxisAlignedBB(0.4D, 0D, 0D, 0.6D, 1D, 1D);
 
+    /**
+     * {@link #AABB_STICKS} rotated to each horizontal facing, indexed by horizontal index.
+     */
+    private static final AxisAlignedBB[] STICKS_AABBS = new AxisAlignedBB[4];
+    /**
+     * Hit boxes of the 3 barbecue rack slots holding an item, indexed by horizontal index
+     * of facing, then by position on the rack.
+     */
+    private static final AxisAlignedBB[][] RACK_ITEM_AABBS = new AxisAlignedBB[4][3];
+    /**
+     * Hit boxes of the 3 barbecue rack slots when they are empty.
+     */
+    private static final AxisAlignedBB[][] RACK_EMPTY_AABBS = new AxisAlignedBB[4][3];
+
+    static
+    {
+        AxisAlignedBB aabbItem = new AxisAlignedBB(0.3D, 0.5D, 0.2D, 0.7D, 0.9D, 0.4D);
+        AxisAlignedBB aabbEmpty = new AxisAlignedBB(0.45D, 0.65D, 0.2D, 0.55D, 0.75D, 0.4D);
+        for (EnumFacing facing : EnumFacing.HORIZONTALS)
+        {
+            int index = facing.getHorizontalIndex();
+            STICKS_AABBS[index] = AABBUtil.rotate(AABB_STICKS, facing);
+            AxisAlignedBB rotatedItem = AABBUtil.rotate(aabbItem, facing);
+            AxisAlignedBB rotatedEmpty = AABBUtil.rotate(aabbEmpty, facing);
+            for (int i = 0; i < 3; i++)
+            {
+                double x = facing.getDirectionVec().getX() * 0.2 * i;
+                double z = facing.getOpposite().getDirectionVec().getZ() * 0.2 * i;
+                RACK_ITEM_AABBS[index][i] = rotatedItem.offset(x, 0, z);
+                RACK_EMPTY_AABBS[index][i] = rotatedEmpty.offset(x, 0, z);
+            }
+        }
+    }
+
     public BlockFirePit(String name)
     {
         super(name, Material.ROCK);
@@ -113,7 +145,7 @@ public class BlockFirePit extends BlockModHorizontal
         super.addCollisionBoxToList(state, worldIn, pos, entityBox, collidingBoxes, entityIn, isActualState);
         if (hasComponent(state, Component.STICKS))
         {
-            addCollisionBoxToList(pos, entityBox, collidingBoxes, AABBUtil.rotate(AABB_STICKS, state.getValue(BlockHorizontal.FACING)));
+            addCollisionBoxToList(pos, entityBox, collidingBoxes, STICKS_AABBS[state.getValue(BlockHorizontal.FACING).getHorizontalIndex()]);
         }
     }
 
@@ -122,7 +154,7 @@ public class BlockFirePit extends BlockModHorizontal
     {
         if (hasComponent(state, Component.STICKS))
         {
-            RayTraceResult result = rayTrace(pos, start, end, AABBUtil.rotate(AABB_STICKS, state.getValue(BlockHorizontal.FACING)));
+            RayTraceResult result = rayTrace(pos, start, end, STICKS_AABBS[state.getValue(BlockHorizontal.FACING).getHorizontalIndex()]);
             if (result != null && result.typeOfHit != RayTraceResult.Type.MISS)
             {
                 return result;
@@ -167,16 +199,8 @@ public class BlockFirePit extends BlockModHorizontal
                 if (!worldIn.isRemote)
                 {
                     TileBarbecueRack teBR = (TileBarbecueRack) tile;
-                    List<AxisAlignedBB> aabbs = Lists.newArrayList();
-                    EnumFacing facing2 = state.getValue(BlockHorizontal.FACING);
-                    AxisAlignedBB aabbItem = AABBUtil.rotate(new AxisAlignedBB(0.3D, 0.5D, 0.2D, 0.7D, 0.9D, 0.4D), facing2);
-                    AxisAlignedBB aabbEmpty = AABBUtil.rotate(new AxisAlignedBB(0.45D, 0.65D, 0.2D, 0.55D, 0.75D, 0.4D), facing2);
-                    for (int i = 0; i < 3; i++)
-                    {
-                        aabbs.add((teBR.stacks.getStackInSlot(2 - i).isEmpty() ? aabbEmpty
-                                : aabbItem).offset(facing2.getDirectionVec().getX() * 0.2 * i, 0, facing2.getOpposite().getDirectionVec().getZ() * 0.2 * i).offset(pos));
-                    }
-                    int result = AABBUtil.rayTraceByDistance(playerIn, aabbs);
+                    int index = state.getValue(BlockHorizontal.FACING).getHorizontalIndex();
+                    int result = rayTraceRack(playerIn, pos, teBR, RACK_ITEM_AABBS[index], RACK_EMPTY_AABBS[index]);
                     if (result != -1)
                     {
                         result = 2 - result;
@@ -208,6 +232,67 @@ public class BlockFirePit extends BlockModHorizontal
         return false;
     }
 
+    /**
+     * Find the barbecue rack slot the player is looking at. The ray is tested against the
+     * precomputed boxes in block space, so nothing is allocated on the way.
+     * @return Position on the rack, i.e. 2 - slot index, or -1 if the player looks at none
+     */
+    private static int rayTraceRack(EntityPlayer player, BlockPos pos, TileBarbecueRack rack, AxisAlignedBB[] aabbsItem, AxisAlignedBB[] aabbsEmpty)
+    {
+        double x = player.posX - pos.getX();
+        double y = player.posY + player.getEyeHeight() - pos.getY();
+        double z = player.posZ - pos.getZ();
+        // Same as Entity.getVectorForRotation
+        float yaw = player.rotationYaw * 0.017453292F;
+        float pitch = player.rotationPitch * 0.017453292F;
+        float cosPitch = MathHelper.cos(pitch);
+        double dx = -MathHelper.sin(yaw) * cosPitch;
+        double dy = -MathHelper.sin(pitch);
+        double dz = MathHelper.cos(yaw) * cosPitch;
+
+        int result = -1;
+        double nearest = player.getEntityAttribute(EntityPlayer.REACH_DISTANCE).getAttributeValue();
+        for (int i = 0; i < 3; i++)
+        {
+            AxisAlignedBB aabb = rack.stacks.getStackInSlot(2 - i).isEmpty() ? aabbsEmpty[i] : aabbsItem[i];
+            double distance = intersect(aabb, x, y, z, dx, dy, dz);
+            if (distance >= 0 && distance <= nearest)
+            {
+                nearest = distance;
+                result = i;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return Distance along the ray to where it enters the box, or -1 if it misses
+     */
+    private static double intersect(AxisAlignedBB aabb, double x, double y, double z, double dx, double dy, double dz)
+    {
+        double near = Math.max(Math.max(enter(aabb.minX, aabb.maxX, x, dx), enter(aabb.minY, aabb.maxY, y, dy)), Math.max(enter(aabb.minZ, aabb.maxZ, z, dz), 0));
+        double far = Math.min(Math.min(exit(aabb.minX, aabb.maxX, x, dx), exit(aabb.minY, aabb.maxY, y, dy)), exit(aabb.minZ, aabb.maxZ, z, dz));
+        return near <= far ? near : -1;
+    }
+
+    private static double enter(double min, double max, double origin, double direction)
+    {
+        if (Math.abs(direction) < 1.0E-7D)
+        {
+            return origin < min || origin > max ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+        }
+        return Math.min((min - origin) / direction, (max - origin) / direction);
+    }
+
+    private static double exit(double min, double max, double origin, double direction)
+    {
+        if (Math.abs(direction) < 1.0E-7D)
+        {
+            return origin < min || origin > max ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+        return Math.max((min - origin) / direction, (max - origin) / direction);
+    }
+
     @Override
     public void breakBlock(World worldIn, BlockPos pos, IBlockState state)
     {
@@ -7,7 +7,6 @@ import net.minecraft.block.Block;
 import net.minecraft.block.BlockBush;
 import net.minecraft.block.SoundType;
 import net.minecraft.block.state.IBlockState;
-import net.minecraft.client.Minecraft;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.math.AxisAlignedBB;
@@ -19,7 +18,7 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import snownee.cuisine.Cuisine;
 import snownee.cuisine.CuisineRegistry;
-import snownee.cuisine.client.particle.ParticleGrowth;
+import snownee.cuisine.client.particle.CuisineParticles;
 import snownee.cuisine.items.ItemCrops;
 import snownee.kiwi.block.IModBlock;
 import snownee.kiwi.util.VariantsHolder.Variant;
@@ -58,7 +57,8 @@ public class BlockGarden extends BlockBush implements IModBlock, IShearable
     @Override
     public void getDrops(NonNullList<ItemStack> drops, IBlockAccess world, BlockPos pos, IBlockState state, int fortune)
     {
-        drops.add(CuisineRegistry.CROPS.getItemStack(DropPool.draw(RANDOM)));
+        Random rand = world instanceof World ? ((World) world).rand : RANDOM;
+        drops.add(CuisineRegistry.CROPS.getItemStack(DropPool.draw(rand)));
     }
 
     @Override
@@ -100,8 +100,10 @@ public class BlockGarden extends BlockBush implements IModBlock, IShearable
         {
             double x = pos.getX() + rand.nextDouble();
             double z = pos.getZ() + rand.nextDouble();
-            ParticleGrowth particle = new ParticleGrowth(worldIn, x, pos.getY(), z, 0, 0.2, 0);
-            Minecraft.getMinecraft().effectRenderer.addEffect(particle);
+            if (CuisineParticles.allowance(x, pos.getY(), z, 1) > 0)
+            {
+                CuisineParticles.spawnGrowth(worldIn, x, pos.getY(), z, 0, 0.2, 0);
+            }
         }
     }
 
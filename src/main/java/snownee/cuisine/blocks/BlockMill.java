@@ -1,5 +1,6 @@
 package snownee.cuisine.blocks;
 
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockHorizontal;
 import net.minecraft.block.SoundType;
 import net.minecraft.block.material.Material;
@@ -132,6 +133,24 @@ public class BlockMill extends BlockModHorizontal
         return true;
     }
 
+    @Override
+    public void neighborChanged(IBlockState state, World worldIn, BlockPos pos, Block blockIn, BlockPos fromPos)
+    {
+        super.neighborChanged(state, worldIn, pos, blockIn, fromPos);
+        this.onNeighborChange(worldIn, pos, fromPos);
+    }
+
+    @Override
+    public void onNeighborChange(IBlockAccess world, BlockPos pos, BlockPos neighbor)
+    {
+        super.onNeighborChange(world, pos, neighbor);
+        TileEntity te = world.getTileEntity(pos);
+        if (te instanceof TileMill)
+        {
+            ((TileMill) te).onNeighborChange(neighbor);
+        }
+    }
+
     @Override
     public boolean canPlaceBlockAt(World worldIn, BlockPos pos)
     {
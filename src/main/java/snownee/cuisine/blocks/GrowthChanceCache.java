@@ -0,0 +1,144 @@
+package snownee.cuisine.blocks;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import it.unimi.dsi.fastutil.longs.Long2FloatOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import snownee.cuisine.Cuisine;
+import snownee.cuisine.library.BlockUpdateListener;
+
+/**
+ * Growth chances of {@link BlockCuisineCrops}, cached by position for each server world.
+ * <p>
+ * The chance of a crop depends on the 3x3 soil blocks below it and the crops in the 8
+ * horizontally adjacent positions. The cache listens to every block update in the world
+ * (including those that notify no neighbor, e.g. farmland getting wet), and drops the
+ * entries of all crops that may be affected by the updated block.
+ */
+@EventBusSubscriber(modid = Cuisine.MODID)
+public final class GrowthChanceCache extends BlockUpdateListener
+{
+    private static final Map<World, GrowthChanceCache> CACHES = new IdentityHashMap<>();
+
+    /**
+     * Cached chances, keyed by chunk, then by position.
+     */
+    private final Long2ObjectOpenHashMap<Long2FloatOpenHashMap> chunks = new Long2ObjectOpenHashMap<>();
+
+    private GrowthChanceCache()
+    {
+    }
+
+    static float getGrowthChance(BlockCuisineCrops block, World world, BlockPos pos)
+    {
+        GrowthChanceCache cache = CACHES.get(world);
+        if (cache == null)
+        {
+            return BlockCuisineCrops.getGrowthChance(block, world, pos);
+        }
+        long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        Long2FloatOpenHashMap chances = cache.chunks.get(chunkKey);
+        if (chances == null)
+        {
+            cache.chunks.put(chunkKey, chances = new Long2FloatOpenHashMap());
+            chances.defaultReturnValue(Float.NaN);
+        }
+        long key = BlockUpdateListener.toLong(pos.getX(), pos.getY(), pos.getZ());
+        float chance = chances.get(key);
+        if (Float.isNaN(chance))
+        {
+            chance = BlockCuisineCrops.getGrowthChance(block, world, pos);
+            chances.put(key, chance);
+        }
+        return chance;
+    }
+
+    /**
+     * Drop the cached chances of crops around the given position.
+     */
+    static void invalidate(World world, BlockPos pos)
+    {
+        GrowthChanceCache cache = CACHES.get(world);
+        if (cache != null)
+        {
+            cache.invalidateAround(pos);
+        }
+    }
+
+    private void invalidateAround(BlockPos pos)
+    {
+        if (chunks.isEmpty())
+        {
+            return;
+        }
+        // A block affects crops beside it, and crops above it as soil
+        for (int dy = 0; dy <= 1; ++dy)
+        {
+            for (int dx = -1; dx <= 1; ++dx)
+            {
+                for (int dz = -1; dz <= 1; ++dz)
+                {
+                    int x = pos.getX() + dx;
+                    int z = pos.getZ() + dz;
+                    Long2FloatOpenHashMap chances = chunks.get(ChunkPos.asLong(x >> 4, z >> 4));
+                    if (chances != null)
+                    {
+                        chances.remove(BlockUpdateListener.toLong(x, pos.getY() + dy, z));
+                    }
+                }
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldLoad(WorldEvent.Load event)
+    {
+        World world = event.getWorld();
+        if (!world.isRemote)
+        {
+            GrowthChanceCache cache = new GrowthChanceCache();
+            CACHES.put(world, cache);
+            world.addEventListener(cache);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event)
+    {
+        GrowthChanceCache cache = CACHES.remove(event.getWorld());
+        if (cache != null)
+        {
+            event.getWorld().removeEventListener(cache);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event)
+    {
+        GrowthChanceCache cache = CACHES.get(event.getWorld());
+        if (cache != null)
+        {
+            cache.chunks.remove(ChunkPos.asLong(event.getChunk().x, event.getChunk().z));
+        }
+    }
+
+    @Override
+    public void notifyBlockUpdate(World worldIn, BlockPos pos, IBlockState oldState, IBlockState newState, int flags)
+    {
+        // Crops only care about the blocks of their neighbors, not the age of them
+        if (oldState.getBlock() == newState.getBlock() && newState.getBlock() instanceof BlockCuisineCrops)
+        {
+            return;
+        }
+        invalidateAround(pos);
+    }
+}
@@ -1,6 +1,11 @@
 package snownee.cuisine.client;
 
+import java.util.Map;
+
+import com.google.common.collect.MapMaker;
+
 import net.minecraft.client.renderer.color.ItemColors;
+import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.client.event.ColorHandlerEvent;
 import net.minecraftforge.fml.common.Mod;
@@ -18,6 +23,13 @@ import snownee.cuisine.internal.CuisineSharedSecrets;
 @Mod.EventBusSubscriber(modid = Cuisine.MODID, value = Side.CLIENT)
 public final class CuisineItemRendering
 {
+    /**
+     * Resolved tint colors, keyed by the identity of stack NBT. Ingredients and spice bottles
+     * always replace their NBT compound when their content changes, so a changed stack will not
+     * hit a stale entry. Entries go away together with the NBT compound.
+     */
+    private static final Map<NBTTagCompound, Integer> INGREDIENT_COLORS = new MapMaker().weakKeys().makeMap();
+    private static final Map<NBTTagCompound, Integer> SPICE_BOTTLE_COLORS = new MapMaker().weakKeys().makeMap();
 
     @SubscribeEvent
     @SideOnly(Side.CLIENT)
@@ -41,11 +53,7 @@ public final class CuisineItemRendering
                 NBTTagCompound data = stack.getTagCompound();
                 if (data != null)
                 {
-                    Material material = CulinaryHub.API_INSTANCE.findMaterial(data.getString(CuisineSharedSecrets.KEY_MATERIAL));
-                    if (material != null)
-                    {
-                        return material.getRawColorCode();
-                    }
+                    return INGREDIENT_COLORS.computeIfAbsent(data, CuisineItemRendering::computeIngredientColor);
                 }
 
                 return -1;
@@ -59,13 +67,30 @@ public final class CuisineItemRendering
         itemColors.registerItemColorHandler((stack, tintIndex) -> {
             if (tintIndex == 0 && CuisineRegistry.SPICE_BOTTLE.hasItem(stack))
             {
-                Spice spice = CuisineRegistry.SPICE_BOTTLE.getSpice(stack);
-                if (spice != null)
+                NBTTagCompound data = stack.getTagCompound();
+                if (data != null)
                 {
-                    return spice.getColorCode();
+                    Integer color = SPICE_BOTTLE_COLORS.get(data);
+                    if (color == null)
+                    {
+                        SPICE_BOTTLE_COLORS.put(data, color = computeSpiceBottleColor(stack));
+                    }
+                    return color;
                 }
             }
             return -1;
         }, CuisineRegistry.SPICE_BOTTLE);
     }
+
+    private static int computeIngredientColor(NBTTagCompound data)
+    {
+        Material material = CulinaryHub.API_INSTANCE.findMaterial(data.getString(CuisineSharedSecrets.KEY_MATERIAL));
+        return material == null ? -1 : material.getRawColorCode();
+    }
+
+    private static int computeSpiceBottleColor(ItemStack stack)
+    {
+        Spice spice = CuisineRegistry.SPICE_BOTTLE.getSpice(stack);
+        return spice == null ? -1 : spice.getColorCode();
+    }
 }
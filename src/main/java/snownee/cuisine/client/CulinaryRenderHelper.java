@@ -97,5 +97,42 @@ public class CulinaryRenderHelper
         }
     }
 
+    /**
+     * Array-based variant of {@link #renderMaterialCategoryIcons(Map, int, int, float, int)},
+     * for callers that have these precomputed and want to avoid allocating on every frame.
+     * @param categories - 要显示的类别
+     * @param levels - 与categories一一对应的等级
+     * @param iconCount - 图标总数，即各等级向上取整后之和
+     * @param x
+     * @param y
+     * @param starvationModifier
+     * @param maxWidth - 图标可在一行中被显示的最大宽度，如果图标过长将尝试缩短间距
+     */
+    public static void renderMaterialCategoryIcons(MaterialCategory[] categories, double[] levels, int iconCount, int x, int y, float starvationModifier, int maxWidth)
+    {
+        if (iconCount == 0)
+        {
+            return;
+        }
+        int width = 17;
+        if (iconCount * width > maxWidth)
+        {
+            width = maxWidth / iconCount;
+        }
+
+        int sum = 0;
+        for (int i = 0; i < categories.length; i++)
+        {
+            double foodLevel = levels[i];
+            int countIcon = MathHelper.ceil(foodLevel);
+            double starvation = foodLevel * starvationModifier;
+            for (int j = 0; j < countIcon; ++j)
+            {
+                renderMaterialCategoryIcon(categories[i], x + sum * width, y, Math.min(1, foodLevel - j), Math.min(1, starvation - j));
+                ++sum;
+            }
+        }
+    }
+
     // TODO: width measure method? or icons should not wrap line?
 }
@@ -0,0 +1,306 @@
+package snownee.cuisine.client;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.MapMaker;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.resources.I18n;
+import net.minecraft.client.resources.IReloadableResourceManager;
+import net.minecraft.client.resources.IResourceManager;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.text.TextFormatting;
+import net.minecraftforge.client.resource.IResourceType;
+import net.minecraftforge.client.resource.ISelectiveResourceReloadListener;
+import net.minecraftforge.client.resource.VanillaResourceType;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import snownee.cuisine.CuisineRegistry;
+import snownee.cuisine.api.CompositeFood;
+import snownee.cuisine.api.CulinaryCapabilities;
+import snownee.cuisine.api.CulinaryHub;
+import snownee.cuisine.api.Effect;
+import snownee.cuisine.api.FoodContainer;
+import snownee.cuisine.api.Form;
+import snownee.cuisine.api.Ingredient;
+import snownee.cuisine.api.IngredientTrait;
+import snownee.cuisine.api.Material;
+import snownee.cuisine.api.MaterialCategory;
+import snownee.cuisine.api.Seasoning;
+import snownee.cuisine.internal.CuisinePersistenceCenter;
+import snownee.cuisine.util.I18nUtil;
+import snownee.kiwi.util.Util;
+
+/**
+ * Everything shown in the tooltip of a dish or an ingredient, computed once and reused
+ * until the food changes. Tooltips are rebuilt on every frame while the mouse hovers
+ * over a stack, so deriving all of these from scratch each time is quite wasteful.
+ */
+@SideOnly(Side.CLIENT)
+public final class FoodTooltipModel
+{
+    private static final FoodTooltipModel EMPTY = new FoodTooltipModel(new MaterialCategory[0], new double[0], 0, -1);
+
+    /**
+     * Models of dishes, keyed by the identity of the {@link CompositeFood} instance and
+     * validated against {@link CompositeFood#getVersion()}.
+     */
+    private static final Map<CompositeFood, FoodTooltipModel> COMPOSITES = new MapMaker().weakKeys().makeMap();
+    /**
+     * Models of ingredient items, keyed by the identity of stack NBT. Ingredient items
+     * always replace their NBT compound when they change.
+     */
+    private static final Map<NBTTagCompound, FoodTooltipModel> INGREDIENTS = new MapMaker().weakKeys().makeMap();
+    /**
+     * Models of items that are known materials in full form.
+     */
+    private static final Map<Material, FoodTooltipModel> MATERIALS = new IdentityHashMap<>();
+
+    static
+    {
+        ((IReloadableResourceManager) Minecraft.getMinecraft().getResourceManager()).registerReloadListener(new ISelectiveResourceReloadListener()
+        {
+            @Override
+            public void onResourceManagerReload(IResourceManager manager, Predicate<IResourceType> tester)
+            {
+                if (tester.test(VanillaResourceType.LANGUAGES))
+                {
+                    invalidateAll();
+                }
+            }
+        });
+    }
+
+    /**
+     * Categories to be drawn as icons, in the order they should be drawn.
+     */
+    private final MaterialCategory[] categories;
+    /**
+     * Level of each entry in {@link #categories}, in the same order.
+     */
+    private final double[] levels;
+    private final int iconCount;
+    private final float starvationModifier;
+    private final int version;
+
+    private List<String> effectLines;
+    private List<String> detailLines;
+
+    private FoodTooltipModel(MaterialCategory[] categories, double[] levels, float starvationModifier, int version)
+    {
+        this.categories = categories;
+        this.levels = levels;
+        this.starvationModifier = starvationModifier;
+        this.version = version;
+        int count = 0;
+        for (double level : levels)
+        {
+            count += MathHelper.ceil(level);
+        }
+        this.iconCount = count;
+    }
+
+    /**
+     * Get the tooltip model of the given stack.
+     * @param stack The stack to be inspected
+     * @return The model, or null if the given stack is neither a dish nor an ingredient
+     */
+    public static FoodTooltipModel of(ItemStack stack)
+    {
+        if (stack.getItem() == CuisineRegistry.INGREDIENT)
+        {
+            NBTTagCompound data = stack.getTagCompound();
+            if (data == null)
+            {
+                return null;
+            }
+            FoodTooltipModel model = INGREDIENTS.get(data);
+            if (model == null)
+            {
+                Ingredient ingredient = CuisinePersistenceCenter.deserializeIngredient(data);
+                INGREDIENTS.put(data, model = ingredient == null ? EMPTY : ofIngredient(ingredient));
+            }
+            return model == EMPTY ? null : model;
+        }
+        else if (stack.hasCapability(CulinaryCapabilities.FOOD_CONTAINER, null))
+        {
+            FoodContainer container = stack.getCapability(CulinaryCapabilities.FOOD_CONTAINER, null);
+            CompositeFood composite;
+            if (container == null || (composite = container.get()) == null)
+            {
+                return null;
+            }
+            return of(composite);
+        }
+        else if (CulinaryHub.API_INSTANCE.isKnownMaterial(stack))
+        {
+            Material material = CulinaryHub.API_INSTANCE.findMaterial(stack);
+            FoodTooltipModel model = MATERIALS.get(material);
+            if (model == null)
+            {
+                MATERIALS.put(material, model = material.isValidForm(Form.FULL) ? ofIngredient(new Ingredient(material)) : EMPTY);
+            }
+            return model == EMPTY ? null : model;
+        }
+        return null;
+    }
+
+    /**
+     * Get the tooltip model of the given dish.
+     * @param composite The dish
+     * @return The model, which is rebuilt if the dish has been changed since last call
+     */
+    public static FoodTooltipModel of(CompositeFood composite)
+    {
+        FoodTooltipModel model = COMPOSITES.get(composite);
+        if (model == null || model.version != composite.getVersion())
+        {
+            COMPOSITES.put(composite, model = ofComposite(composite));
+        }
+        return model;
+    }
+
+    public static void invalidateAll()
+    {
+        COMPOSITES.clear();
+        INGREDIENTS.clear();
+        MATERIALS.clear();
+    }
+
+    private static FoodTooltipModel ofIngredient(Ingredient ingredient)
+    {
+        Set<MaterialCategory> set = ingredient.getMaterial().getCategories();
+        MaterialCategory[] categories = set.toArray(new MaterialCategory[0]);
+        double[] levels = new double[categories.length];
+        for (int i = 0; i < levels.length; i++)
+        {
+            levels[i] = ingredient.getSize();
+        }
+        return new FoodTooltipModel(categories, levels, 0.4F + ingredient.getMaterial().getSaturationModifier(ingredient), -1);
+    }
+
+    private static FoodTooltipModel ofComposite(CompositeFood composite)
+    {
+        // Icons are drawn in the order categories first appear, same as what a linked map would do
+        double[] categoryLevels = composite.getCategoryLevels();
+        EnumSet<MaterialCategory> found = EnumSet.noneOf(MaterialCategory.class);
+        MaterialCategory[] categories = new MaterialCategory[categoryLevels.length];
+        double[] levels = new double[categoryLevels.length];
+        int count = 0;
+        for (Ingredient ingredient : composite.getIngredients())
+        {
+            for (MaterialCategory category : ingredient.getMaterial().getCategories())
+            {
+                if (found.add(category))
+                {
+                    categories[count] = category;
+                    levels[count++] = categoryLevels[category.ordinal()];
+                }
+            }
+        }
+        return new FoodTooltipModel(Arrays.copyOf(categories, count), Arrays.copyOf(levels, count), composite.getSaturationModifier(), composite.getVersion());
+    }
+
+    /**
+     * @return Number of category icons in this tooltip, which decides how much space should be reserved
+     */
+    public int getIconCount()
+    {
+        return iconCount;
+    }
+
+    public void renderIcons(int x, int y, int maxWidth)
+    {
+        CulinaryRenderHelper.renderMaterialCategoryIcons(categories, levels, iconCount, x, y, starvationModifier, maxWidth);
+    }
+
+    /**
+     * Lines of effects shown in the tooltip of a dish, including those from its ingredients.
+     * @param composite The dish this model was built from
+     * @return An unmodifiable list of formatted lines
+     */
+    public List<String> getEffectLines(CompositeFood composite)
+    {
+        if (effectLines == null)
+        {
+            Set<Effect> effects = new LinkedHashSet<>();
+            for (Ingredient ingredient : composite.getIngredients())
+            {
+                effects.addAll(ingredient.getEffects());
+            }
+            effects.addAll(composite.getEffects());
+            ImmutableList.Builder<String> builder = ImmutableList.builder();
+            for (Effect effect : effects)
+            {
+                if (effect.showInTooltips())
+                {
+                    builder.add(Util.color(effect.getColorForDisplay()) + I18n.format(effect.getName()));
+                }
+            }
+            effectLines = builder.build();
+        }
+        return effectLines;
+    }
+
+    /**
+     * Lines of ingredients and seasonings shown in the tooltip of a dish when shift is held.
+     * @param composite The dish this model was built from
+     * @return An unmodifiable list of formatted lines
+     */
+    public List<String> getDetailLines(CompositeFood composite)
+    {
+        if (detailLines == null)
+        {
+            List<String> lines = new ArrayList<>();
+            List<Ingredient> ingredients = composite.getIngredients();
+            if (!ingredients.isEmpty())
+            {
+                lines.add(I18nUtil.translate("tip.ingredients"));
+
+                for (Ingredient ingredient : ingredients)
+                {
+                    StringBuilder line = new StringBuilder("  " + ingredient.getTranslation());
+                    Set<IngredientTrait> characteristics = ingredient.getAllTraits();
+                    if (!characteristics.isEmpty())
+                    {
+                        line.append(" ").append(TextFormatting.ITALIC);
+                    }
+                    for (IngredientTrait characteristic : characteristics)
+                    {
+                        line.append(" ").append(I18n.format(characteristic.getTranslationKey()));
+                    }
+                    lines.add(line.toString());
+                }
+            }
+
+            List<Seasoning> seasonings = composite.getSeasonings();
+            if (!seasonings.isEmpty())
+            {
+                if (!ingredients.isEmpty())
+                {
+                    lines.add("");
+                }
+                lines.add(I18nUtil.translate("tip.seasonings"));
+
+                for (Seasoning seasoning : seasonings)
+                {
+                    lines.add("  " + I18n.format(seasoning.getSpice().getTranslationKey()) + " * " + seasoning.getSize());
+                }
+            }
+            detailLines = Collections.unmodifiableList(lines);
+        }
+        return detailLines;
+    }
+}
@@ -1,22 +1,41 @@
 package snownee.cuisine.client.model;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.ItemMeshDefinition;
 import net.minecraft.client.renderer.block.model.ModelResourceLocation;
+import net.minecraft.client.resources.IReloadableResourceManager;
+import net.minecraft.client.resources.IResourceManager;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.client.resource.IResourceType;
+import net.minecraftforge.client.resource.ISelectiveResourceReloadListener;
+import net.minecraftforge.client.resource.VanillaResourceType;
 import snownee.cuisine.Cuisine;
 import snownee.cuisine.api.CompositeFood;
 import snownee.cuisine.api.CulinaryCapabilities;
 import snownee.cuisine.api.FoodContainer;
 import snownee.cuisine.proxy.ClientProxy;
 
-public class DishMeshDefinition implements ItemMeshDefinition
+public class DishMeshDefinition implements ItemMeshDefinition, ISelectiveResourceReloadListener
 {
 
     public static final DishMeshDefinition INSTANCE = new DishMeshDefinition();
 
+    private static final ModelResourceLocation EMPTY = new ModelResourceLocation(ClientProxy.EMPTY, "inventory");
+
+    /**
+     * Model locations keyed by model type, filled as dishes are rendered, so that the location
+     * of a type is created only once.
+     */
+    private final Map<String, ModelResourceLocation> locations = new HashMap<>();
+
     private DishMeshDefinition()
     {
+        ((IReloadableResourceManager) Minecraft.getMinecraft().getResourceManager()).registerReloadListener(this);
     }
 
     @Override
@@ -26,11 +45,25 @@ public class DishMeshDefinition implements ItemMeshDefinition
         CompositeFood food;
         if (container != null && (food = container.get()) != null)
         {
-            return new ModelResourceLocation(new ResourceLocation(Cuisine.MODID, "dish/" + food.getOrComputeModelType()), "inventory");
+            return locations.computeIfAbsent(food.getOrComputeModelType(), DishMeshDefinition::makeLocation);
         }
         else
         {
-            return new ModelResourceLocation(ClientProxy.EMPTY, "inventory");
+            return EMPTY;
+        }
+    }
+
+    @Override
+    public void onResourceManagerReload(IResourceManager manager, Predicate<IResourceType> tester)
+    {
+        if (tester.test(VanillaResourceType.MODELS))
+        {
+            locations.clear();
         }
     }
+
+    private static ModelResourceLocation makeLocation(String modelType)
+    {
+        return new ModelResourceLocation(new ResourceLocation(Cuisine.MODID, "dish/" + modelType), "inventory");
+    }
 }
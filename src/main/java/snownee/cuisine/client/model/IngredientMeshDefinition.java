@@ -27,13 +27,26 @@ public class IngredientMeshDefinition implements ItemMeshDefinition, ISelectiveR
 {
     public static final IngredientMeshDefinition INSTANCE = new IngredientMeshDefinition();
 
+    private static final ModelResourceLocation EMPTY = new ModelResourceLocation(ClientProxy.EMPTY, "inventory");
+
     private final EnumMap<Form, Map<String, String>> overrides = new EnumMap<>(Form.class);
+    /**
+     * Resolved model locations keyed by form and material ID, so that no location object is
+     * created during rendering. Rebuilt whenever models are reloaded.
+     */
+    private final EnumMap<Form, Map<String, ModelResourceLocation>> locations = new EnumMap<>(Form.class);
+    /**
+     * Location used by a form when there is no material-specific override.
+     */
+    private final EnumMap<Form, ModelResourceLocation> defaultLocations = new EnumMap<>(Form.class);
 
     private IngredientMeshDefinition()
     {
         for (Form form : Form.values())
         {
             overrides.put(form, new HashMap<>());
+            locations.put(form, new HashMap<>());
+            defaultLocations.put(form, new ModelResourceLocation(new ResourceLocation(Cuisine.MODID, "cmaterial/" + form.name().toLowerCase(Locale.ENGLISH)), "inventory"));
         }
         ((IReloadableResourceManager) Minecraft.getMinecraft().getResourceManager()).registerReloadListener(this);
     }
@@ -46,13 +59,19 @@ public class IngredientMeshDefinition implements ItemMeshDefinition, ISelectiveR
             NBTTagCompound data = stack.getTagCompound();
             if (data != null)
             {
-                String formName = data.getString(CuisineSharedSecrets.KEY_FORM);
-                Form form = Form.valueOf(formName);
+                Form form = Form.valueOf(data.getString(CuisineSharedSecrets.KEY_FORM));
                 String material = data.getString(CuisineSharedSecrets.KEY_MATERIAL);
-                return new ModelResourceLocation(new ResourceLocation(Cuisine.MODID, overrides.get(form).getOrDefault(material, "cmaterial/" + formName.toLowerCase(Locale.ENGLISH))), "inventory");
+                ModelResourceLocation location = locations.get(form).get(material);
+                if (location == null)
+                {
+                    String override = overrides.get(form).get(material);
+                    location = override == null ? defaultLocations.get(form) : new ModelResourceLocation(new ResourceLocation(Cuisine.MODID, override), "inventory");
+                    locations.get(form).put(material, location);
+                }
+                return location;
             }
         }
-        return new ModelResourceLocation(ClientProxy.EMPTY, "inventory"); // Catch all
+        return EMPTY; // Catch all
     }
 
     @Override
@@ -61,6 +80,7 @@ public class IngredientMeshDefinition implements ItemMeshDefinition, ISelectiveR
         if (tester.test(VanillaResourceType.MODELS))
         {
             overrides.values().forEach(Map::clear);
+            locations.values().forEach(Map::clear);
             // TODO Read new models
             /*overrides.values()
                     .stream()
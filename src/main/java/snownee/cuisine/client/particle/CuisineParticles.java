@@ -1,17 +1,160 @@
 package snownee.cuisine.client.particle;
 
+import java.util.ArrayDeque;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.client.Minecraft;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
 import net.minecraftforge.client.event.TextureStitchEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
+import snownee.cuisine.CuisineConfig;
+import snownee.cuisine.library.BlockUpdateListener;
 
+/**
+ * Client-side particle manager of Cuisine. Effects ask for an {@link #allowance} before
+ * spawning particles, so that the total number of particles spawned in one frame stays
+ * within a budget, which is shared among all sources in view and scaled by the particle
+ * setting. Instances of {@link ParticleGrowth} are pooled and reused after they expire.
+ */
+@SideOnly(Side.CLIENT)
 public class CuisineParticles
 {
+    private static final int POOL_CAPACITY = 256;
+
+    private static final ArrayDeque<ParticleGrowth> POOL = new ArrayDeque<>();
+
+    /**
+     * Number of particles spawned by each source in the current frame, keyed by packed
+     * block position of the source.
+     */
+    private static final Long2IntMap SOURCES = new Long2IntOpenHashMap();
+
+    private static int sourcesLastFrame = 1;
+    private static int spawnedThisFrame = 0;
 
     @SubscribeEvent
-    @SideOnly(Side.CLIENT)
     public void onTextureStitch(TextureStitchEvent event)
     {
         event.getMap().registerSprite(ParticleGrowth.PARTICLE);
     }
+
+    @SubscribeEvent
+    public void onRenderTick(TickEvent.RenderTickEvent event)
+    {
+        if (event.phase == TickEvent.Phase.START)
+        {
+            sourcesLastFrame = Math.max(1, SOURCES.size());
+            SOURCES.clear();
+            spawnedThisFrame = 0;
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event)
+    {
+        if (event.getWorld().isRemote)
+        {
+            POOL.clear();
+        }
+    }
+
+    /**
+     * @return Maximum number of particles Cuisine may spawn in one frame under current particle setting
+     */
+    public static int getFrameBudget()
+    {
+        int budget = CuisineConfig.GENERAL.particleBudget;
+        switch (Minecraft.getMinecraft().gameSettings.particleSetting)
+        {
+        case 0:
+            return budget;
+        case 1:
+            return budget / 2;
+        default:
+            return budget / 10;
+        }
+    }
+
+    /**
+     * Ask for permission to spawn particles of an effect at the given position. Effects too
+     * far away from the camera get nothing; others get a fair share of what is left in the
+     * budget of this frame, given how many sources were spawning particles last frame.
+     * @param x X coordinate of the effect
+     * @param y Y coordinate of the effect
+     * @param z Z coordinate of the effect
+     * @param wanted Number of particles the effect would like to spawn
+     * @return Number of particles the caller may actually spawn, between 0 and wanted
+     */
+    public static int allowance(double x, double y, double z, int wanted)
+    {
+        Minecraft mc = Minecraft.getMinecraft();
+        Entity view = mc.getRenderViewEntity();
+        if (wanted <= 0 || view == null)
+        {
+            return 0;
+        }
+        int visibleDistance = mc.gameSettings.fancyGraphics ? 50 : 25;
+        if (view.getDistanceSq(x, y, z) > visibleDistance * visibleDistance)
+        {
+            return 0;
+        }
+
+        int budget = getFrameBudget();
+        long source = BlockUpdateListener.toLong(MathHelper.floor(x), MathHelper.floor(y), MathHelper.floor(z));
+        int used = SOURCES.get(source);
+        int share = Math.max(1, budget / sourcesLastFrame);
+        int allowed = Math.min(wanted, Math.min(share - used, budget - spawnedThisFrame));
+        if (allowed <= 0)
+        {
+            return 0;
+        }
+        SOURCES.put(source, used + allowed);
+        spawnedThisFrame += allowed;
+        return allowed;
+    }
+
+    public static void spawnGrowth(World world, double x, double y, double z)
+    {
+        Minecraft.getMinecraft().effectRenderer.addEffect(obtain(world, x, y, z));
+    }
+
+    public static void spawnGrowth(World world, double x, double y, double z, double motionX, double motionY, double motionZ)
+    {
+        ParticleGrowth particle = obtain(world, x, y, z);
+        particle.setMotion(motionX, motionY, motionZ);
+        Minecraft.getMinecraft().effectRenderer.addEffect(particle);
+    }
+
+    private static ParticleGrowth obtain(World world, double x, double y, double z)
+    {
+        ParticleGrowth particle;
+        while ((particle = POOL.poll()) != null)
+        {
+            if (particle.getWorld() == world)
+            {
+                particle.reset(x, y, z);
+                return particle;
+            }
+        }
+        return new ParticleGrowth(world, x, y, z);
+    }
+
+    /**
+     * Called when a particle expires. It is removed from the particle manager in the same
+     * update, so it is safe to hand it out again afterwards.
+     */
+    static void recycle(ParticleGrowth particle)
+    {
+        if (POOL.size() < POOL_CAPACITY)
+        {
+            POOL.add(particle);
+        }
+    }
 }
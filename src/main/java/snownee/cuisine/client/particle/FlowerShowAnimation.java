@@ -0,0 +1,137 @@
+package snownee.cuisine.client.particle;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import net.minecraft.block.Block;
+import net.minecraft.client.Minecraft;
+import net.minecraft.init.SoundEvents;
+import net.minecraft.util.EnumParticleTypes;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import snownee.cuisine.entities.FlowerShow;
+import snownee.cuisine.items.ItemLifeEssence;
+
+/**
+ * Plays {@link FlowerShow}s sent by the server. Falling flowers are drawn as trails of
+ * particles within the budget of {@link CuisineParticles}, and each plays its note when
+ * it lands. Nothing here exists on the server, which places the flowers by itself.
+ */
+@SideOnly(Side.CLIENT)
+public class FlowerShowAnimation
+{
+    private static final List<Running> SHOWS = new ArrayList<>();
+
+    /**
+     * @param elapsed Ticks of the show already played, e.g. before the server was restarted
+     */
+    public static void start(World world, FlowerShow show, int elapsed)
+    {
+        if (world != null && show.getFlowerCount() > 0)
+        {
+            SHOWS.add(new Running(world, show, elapsed));
+        }
+    }
+
+    @SubscribeEvent
+    public void onClientTick(TickEvent.ClientTickEvent event)
+    {
+        if (event.phase != TickEvent.Phase.END || SHOWS.isEmpty())
+        {
+            return;
+        }
+        Minecraft mc = Minecraft.getMinecraft();
+        if (mc.isGamePaused())
+        {
+            return;
+        }
+        Iterator<Running> iterator = SHOWS.iterator();
+        while (iterator.hasNext())
+        {
+            Running running = iterator.next();
+            if (running.world != mc.world || running.tick())
+            {
+                iterator.remove();
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event)
+    {
+        if (event.getWorld().isRemote)
+        {
+            SHOWS.clear();
+        }
+    }
+
+    private static final class Running
+    {
+        private final World world;
+        private final FlowerShow show;
+        private int ticks;
+
+        private Running(World world, FlowerShow show, int elapsed)
+        {
+            this.world = world;
+            this.show = show;
+            this.ticks = elapsed - 1;
+        }
+
+        /**
+         * @return true if the show is over
+         */
+        private boolean tick()
+        {
+            ++ticks;
+            for (int i = 0; i < show.getFlowerCount(); i++)
+            {
+                int falling = ticks - show.getStep(i);
+                if (falling < 0)
+                {
+                    break; // Flowers are sorted by step
+                }
+                if (falling < FlowerShow.FALL_TICKS)
+                {
+                    spawnTrail(i, falling);
+                }
+                else if (falling == FlowerShow.FALL_TICKS)
+                {
+                    land(i);
+                }
+            }
+            return ticks >= show.getStep(show.getFlowerCount() - 1) + FlowerShow.FALL_TICKS;
+        }
+
+        private void spawnTrail(int flower, int falling)
+        {
+            double x = show.getLandingX(flower) + 0.5D;
+            double y = show.getLandingY(flower) + FlowerShow.getHeight(falling) + 0.5D;
+            double z = show.getLandingZ(flower) + 0.5D;
+            int count = CuisineParticles.allowance(x, y, z, 2);
+            if (count > 0)
+            {
+                world.spawnParticle(EnumParticleTypes.BLOCK_DUST, x, y, z, 0D, 0D, 0D, Block.getStateId(show.getFlower(flower)));
+            }
+            if (count > 1)
+            {
+                CuisineParticles.spawnGrowth(world, x, y, z);
+            }
+        }
+
+        private void land(int flower)
+        {
+            BlockPos pos = new BlockPos(show.getLandingX(flower), show.getLandingY(flower), show.getLandingZ(flower));
+            float pitch = (float) Math.pow(2.0D, (show.getNote(flower) - 12) / 12.0D);
+            world.playSound(pos.getX() + 0.5D, pos.getY() + 0.5D, pos.getZ() + 0.5D, SoundEvents.BLOCK_NOTE_HARP, SoundCategory.NEUTRAL, 4.0F, pitch, false);
+            ItemLifeEssence.splashParticles(world, pos);
+        }
+    }
+}
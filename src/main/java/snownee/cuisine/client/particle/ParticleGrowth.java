@@ -31,6 +31,11 @@ public class ParticleGrowth extends Particle
     public ParticleGrowth(World world, double x, double y, double z, double motionX, double motionY, double motionZ)
     {
         this(world, x, y, z);
+        setMotion(motionX, motionY, motionZ);
+    }
+
+    void setMotion(double motionX, double motionY, double motionZ)
+    {
         this.motionX = motionX;
         this.motionY = motionY;
         this.motionZ = motionZ;
@@ -40,16 +45,7 @@ public class ParticleGrowth extends Particle
     public ParticleGrowth(World world, double x, double y, double z, float size, float red, float green, float blue, boolean distanceLimit, float maxAge)
     {
         super(world, x, y, z, 0, 0, 0);
-        particleRed = red;
-        particleGreen = green;
-        particleBlue = blue;
-        particleAlpha = 1F;
-        particleGravity = 0.5F;
-        particleScale *= size;
-        particleMaxAge = (int) ((Math.random() * 0.3D + 0.7D) * maxAge);
-        canCollide = false;
-        TextureAtlasSprite texture = Minecraft.getMinecraft().getTextureMapBlocks().getAtlasSprite(PARTICLE.toString());
-        setParticleTexture(texture);
+        init(size, red, green, blue, maxAge);
         Entity renderView = FMLClientHandler.instance().getClient().getRenderViewEntity();
 
         if (distanceLimit)
@@ -71,6 +67,62 @@ public class ParticleGrowth extends Particle
         prevPosZ = posZ;
     }
 
+    private void init(float size, float red, float green, float blue, float maxAge)
+    {
+        particleRed = red;
+        particleGreen = green;
+        particleBlue = blue;
+        particleAlpha = 1F;
+        particleGravity = 0.5F;
+        particleScale *= size;
+        particleMaxAge = (int) ((Math.random() * 0.3D + 0.7D) * maxAge);
+        canCollide = false;
+        TextureAtlasSprite texture = Minecraft.getMinecraft().getTextureMapBlocks().getAtlasSprite(PARTICLE.toString());
+        setParticleTexture(texture);
+    }
+
+    /**
+     * Bring an expired particle back to the state right after
+     * {@link #ParticleGrowth(World, double, double, double)}, so that it can be spawned again.
+     */
+    void reset(double x, double y, double z)
+    {
+        setPosition(x, y, z);
+        prevPosX = x;
+        prevPosY = y;
+        prevPosZ = z;
+        // Same random motion as what Particle(World, double, double, double, double, double, double) gives
+        motionX = (Math.random() * 2.0D - 1.0D) * 0.4D;
+        motionY = (Math.random() * 2.0D - 1.0D) * 0.4D;
+        motionZ = (Math.random() * 2.0D - 1.0D) * 0.4D;
+        float f = (float) (Math.random() + Math.random() + 1.0D) * 0.15F;
+        float f1 = MathHelper.sqrt(motionX * motionX + motionY * motionY + motionZ * motionZ);
+        motionX = motionX / f1 * f * 0.4D;
+        motionY = motionY / f1 * f * 0.4D + 0.1D;
+        motionZ = motionZ / f1 * f * 0.4D;
+        particleScale = (rand.nextFloat() * 0.5F + 0.5F) * 2.0F;
+        particleAge = 0;
+        onGround = false;
+        isExpired = false;
+        init(0.25F, 0.1F, 1F, 0F, 20);
+    }
+
+    @Override
+    public void setExpired()
+    {
+        boolean wasAlive = isAlive();
+        super.setExpired();
+        if (wasAlive)
+        {
+            CuisineParticles.recycle(this);
+        }
+    }
+
+    World getWorld()
+    {
+        return world;
+    }
+
     @Override
     public int getFXLayer()
     {
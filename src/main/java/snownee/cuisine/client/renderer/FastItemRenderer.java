@@ -0,0 +1,412 @@
+package snownee.cuisine.client.renderer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.vecmath.AxisAngle4f;
+import javax.vecmath.Matrix4f;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.BufferBuilder;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.block.model.IBakedModel;
+import net.minecraft.client.renderer.block.model.ItemCameraTransforms;
+import net.minecraft.client.renderer.vertex.VertexFormat;
+import net.minecraft.client.renderer.vertex.VertexFormatElement;
+import net.minecraft.client.resources.IReloadableResourceManager;
+import net.minecraft.client.resources.IResourceManager;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import net.minecraftforge.client.model.pipeline.LightUtil;
+import net.minecraftforge.client.resource.IResourceType;
+import net.minecraftforge.client.resource.ISelectiveResourceReloadListener;
+import net.minecraftforge.client.resource.VanillaResourceType;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ * Helper for rendering items and block models through {@link net.minecraftforge.client.model.animation.FastTESR}.
+ * Since GL matrix is not available in a batched renderer, transformations are tracked here and
+ * applied to vertices directly. Quads of each item stack and block state are extracted once and
+ * cached until resources are reloaded. Tint of items only depends on the stack, so it is cached
+ * too, while tint of blocks depends on where they are, so it is applied on every call.
+ */
+@SideOnly(Side.CLIENT)
+final class FastItemRenderer implements ISelectiveResourceReloadListener
+{
+    static final FastItemRenderer INSTANCE = new FastItemRenderer();
+
+    /**
+     * Full brightness, used when there is no world to query light from, e.g. item rendering.
+     */
+    static final int FULL_BRIGHT = 0xF000F0;
+
+    /**
+     * Cached item models keyed by stack identity. Item, metadata and the reference of NBT are
+     * checked before use, so a changed stack will get its model rebuilt.
+     */
+    private final Map<ItemStack, CachedModel> items = new WeakHashMap<>();
+    private final Map<IBlockState, CachedModel> blocks = new HashMap<>();
+
+    private final Matrix4f transform = new Matrix4f();
+    private final Matrix4f saved = new Matrix4f();
+    private final Matrix4f temp = new Matrix4f();
+    private final AxisAngle4f axisAngle = new AxisAngle4f();
+
+    private FastItemRenderer()
+    {
+        this.transform.setIdentity();
+        ((IReloadableResourceManager) Minecraft.getMinecraft().getResourceManager()).registerReloadListener(this);
+    }
+
+    @Override
+    public void onResourceManagerReload(IResourceManager manager, Predicate<IResourceType> tester)
+    {
+        if (tester.test(VanillaResourceType.MODELS) || tester.test(VanillaResourceType.TEXTURES))
+        {
+            items.clear();
+            blocks.clear();
+        }
+    }
+
+    void loadIdentity()
+    {
+        transform.setIdentity();
+    }
+
+    /**
+     * Save current transformation. Only one level is supported.
+     */
+    void push()
+    {
+        saved.set(transform);
+    }
+
+    void pop()
+    {
+        transform.set(saved);
+    }
+
+    void translate(double x, double y, double z)
+    {
+        temp.setIdentity();
+        temp.m03 = (float) x;
+        temp.m13 = (float) y;
+        temp.m23 = (float) z;
+        transform.mul(temp);
+    }
+
+    void scale(double x, double y, double z)
+    {
+        temp.setIdentity();
+        temp.m00 = (float) x;
+        temp.m11 = (float) y;
+        temp.m22 = (float) z;
+        transform.mul(temp);
+    }
+
+    /**
+     * Same as {@link net.minecraft.client.renderer.GlStateManager#rotate(float, float, float, float)}.
+     * @param angle the angle, in degrees
+     */
+    void rotate(float angle, float x, float y, float z)
+    {
+        axisAngle.set(x, y, z, (float) Math.toRadians(angle));
+        temp.set(axisAngle);
+        transform.mul(temp);
+    }
+
+    /**
+     * Get the cached model of given item stack, building it if necessary.
+     */
+    CachedModel getItemModel(ItemStack stack, ItemCameraTransforms.TransformType transformType)
+    {
+        CachedModel model = items.get(stack);
+        if (model == null || !model.isFor(stack, transformType))
+        {
+            items.put(stack, model = bakeItem(stack, transformType));
+        }
+        return model;
+    }
+
+    /**
+     * Get the cached model of given block state, building it if necessary. The model is not
+     * tinted, use {@link #renderBlock} to render it with the tint of a position.
+     */
+    CachedModel getBlockModel(IBlockState state)
+    {
+        CachedModel model = blocks.get(state);
+        if (model == null)
+        {
+            IBakedModel bakedModel = Minecraft.getMinecraft().getBlockRendererDispatcher().getModelForState(state);
+            model = new CachedModel(collectQuads(bakedModel, state), null, null, null, bakedModel.isGui3d());
+            blocks.put(state, model);
+        }
+        return model;
+    }
+
+    /**
+     * Render the given block state with current transformation, tinted as if it were at the
+     * given position.
+     * @param packedLight packed light map coordinate
+     */
+    void renderBlock(IBlockState state, @Nullable IBlockAccess world, @Nullable BlockPos pos, BufferBuilder buffer, int packedLight)
+    {
+        CachedModel model = getBlockModel(state);
+        model.render(transform, buffer, packedLight, model.isTinted() ? tint -> Minecraft.getMinecraft().getBlockColors().colorMultiplier(state, world, pos, tint) : null);
+    }
+
+    /**
+     * Render the given item with current transformation, the same way as
+     * {@link net.minecraft.client.renderer.RenderItem#renderItem(ItemStack, ItemCameraTransforms.TransformType)}.
+     * @param packedLight packed light map coordinate
+     */
+    void renderItem(ItemStack stack, ItemCameraTransforms.TransformType transformType, BufferBuilder buffer, int packedLight)
+    {
+        render(getItemModel(stack, transformType), buffer, packedLight);
+    }
+
+    /**
+     * Render the given cached model with current transformation.
+     * @param packedLight packed light map coordinate
+     */
+    void render(CachedModel model, BufferBuilder buffer, int packedLight)
+    {
+        model.render(transform, buffer, packedLight, null);
+    }
+
+    /**
+     * Render the given quads without caching, e.g. the quads of a damage model.
+     */
+    void renderQuads(List<BakedQuad> quads, BufferBuilder buffer, int packedLight)
+    {
+        new CachedModel(quads, null, null, null, true).render(transform, buffer, packedLight, null);
+    }
+
+    private CachedModel bakeItem(ItemStack stack, ItemCameraTransforms.TransformType transformType)
+    {
+        IBakedModel model = Minecraft.getMinecraft().getRenderItem().getItemModelWithOverrides(stack, null, null);
+        boolean gui3d = model.isGui3d();
+        if (model.isBuiltInRenderer())
+        {
+            // Item with TileEntityItemStackRenderer cannot be batched
+            return new CachedModel(new ArrayList<>(), null, null, stack, gui3d).forTransform(transformType);
+        }
+        Pair<? extends IBakedModel, Matrix4f> pair = model.handlePerspective(transformType);
+        Matrix4f baseTransform = new Matrix4f();
+        baseTransform.setIdentity();
+        if (pair.getRight() != null)
+        {
+            baseTransform.set(pair.getRight());
+        }
+        // RenderItem centers the model before drawing it
+        Matrix4f center = new Matrix4f();
+        center.setIdentity();
+        center.m03 = center.m13 = center.m23 = -0.5F;
+        baseTransform.mul(center);
+        return new CachedModel(collectQuads(pair.getLeft(), null), baseTransform, tint -> Minecraft.getMinecraft().getItemColors().colorMultiplier(stack, tint), stack, gui3d).forTransform(transformType);
+    }
+
+    static List<BakedQuad> collectQuads(IBakedModel model, @Nullable IBlockState state)
+    {
+        List<BakedQuad> quads = new ArrayList<>(model.getQuads(state, null, 0L));
+        for (EnumFacing side : EnumFacing.VALUES)
+        {
+            quads.addAll(model.getQuads(state, side, 0L));
+        }
+        return quads;
+    }
+
+    @FunctionalInterface
+    private interface TintResolver
+    {
+        int getColor(int tintIndex);
+    }
+
+    /**
+     * Vertices of a model, transformed by its perspective transformation and with color and
+     * diffuse lighting applied. Tint is applied too if it was given when building, otherwise
+     * the tint index of each vertex is kept, to be resolved when rendering.
+     */
+    static final class CachedModel
+    {
+        private static final int STRIDE = 5;
+
+        private final boolean gui3d;
+        private final float[] vertices;
+        private final int[] colors;
+        /**
+         * Tint index of each vertex not tinted yet, or null if there is none.
+         */
+        @Nullable
+        private final int[] tintIndices;
+
+        // Used for validating cached item model
+        @Nullable
+        private final Item item;
+        private final int metadata;
+        @Nullable
+        private final NBTTagCompound tag;
+        @Nullable
+        private ItemCameraTransforms.TransformType transformType;
+
+        CachedModel(List<BakedQuad> quads, @Nullable Matrix4f baseTransform, @Nullable TintResolver tint, @Nullable ItemStack stack, boolean gui3d)
+        {
+            this.gui3d = gui3d;
+            this.item = stack == null ? null : stack.getItem();
+            this.metadata = stack == null ? 0 : stack.getMetadata();
+            this.tag = stack == null ? null : stack.getTagCompound();
+            this.vertices = new float[quads.size() * 4 * STRIDE];
+            this.colors = new int[quads.size() * 4];
+
+            int[] tintIndices = null;
+            float[] data = new float[4];
+            int v = 0;
+            for (BakedQuad quad : quads)
+            {
+                VertexFormat format = quad.getFormat();
+                int position = -1, color = -1, uv = -1;
+                for (int e = 0; e < format.getElementCount(); e++)
+                {
+                    VertexFormatElement element = format.getElement(e);
+                    if (element.getUsage() == VertexFormatElement.EnumUsage.POSITION)
+                    {
+                        position = e;
+                    }
+                    else if (element.getUsage() == VertexFormatElement.EnumUsage.COLOR)
+                    {
+                        color = e;
+                    }
+                    else if (element.getUsage() == VertexFormatElement.EnumUsage.UV && element.getIndex() == 0)
+                    {
+                        uv = e;
+                    }
+                }
+                int tintColor = quad.hasTintIndex() && tint != null ? tint.getColor(quad.getTintIndex()) : -1;
+                if (quad.hasTintIndex() && tint == null)
+                {
+                    if (tintIndices == null)
+                    {
+                        tintIndices = new int[colors.length];
+                        Arrays.fill(tintIndices, -1);
+                    }
+                    Arrays.fill(tintIndices, v, v + 4, quad.getTintIndex());
+                }
+                float diffuse = quad.shouldApplyDiffuseLighting() ? LightUtil.diffuseLight(quad.getFace()) : 1F;
+                int[] vertexData = quad.getVertexData();
+                for (int i = 0; i < 4; i++, v++)
+                {
+                    LightUtil.unpack(vertexData, data, format, i, position);
+                    float x = data[0], y = data[1], z = data[2];
+                    if (baseTransform != null)
+                    {
+                        float tx = baseTransform.m00 * x + baseTransform.m01 * y + baseTransform.m02 * z + baseTransform.m03;
+                        float ty = baseTransform.m10 * x + baseTransform.m11 * y + baseTransform.m12 * z + baseTransform.m13;
+                        float tz = baseTransform.m20 * x + baseTransform.m21 * y + baseTransform.m22 * z + baseTransform.m23;
+                        x = tx;
+                        y = ty;
+                        z = tz;
+                    }
+                    vertices[v * STRIDE] = x;
+                    vertices[v * STRIDE + 1] = y;
+                    vertices[v * STRIDE + 2] = z;
+                    if (uv >= 0)
+                    {
+                        LightUtil.unpack(vertexData, data, format, i, uv);
+                        vertices[v * STRIDE + 3] = data[0];
+                        vertices[v * STRIDE + 4] = data[1];
+                    }
+                    float r = 1F, g = 1F, b = 1F, a = 1F;
+                    if (color >= 0)
+                    {
+                        LightUtil.unpack(vertexData, data, format, i, color);
+                        r = data[0];
+                        g = data[1];
+                        b = data[2];
+                        a = data[3];
+                    }
+                    r *= ((tintColor >> 16) & 0xFF) / 255F * diffuse;
+                    g *= ((tintColor >> 8) & 0xFF) / 255F * diffuse;
+                    b *= (tintColor & 0xFF) / 255F * diffuse;
+                    colors[v] = ((int) (a * 255) & 0xFF) << 24 | ((int) (r * 255) & 0xFF) << 16 | ((int) (g * 255) & 0xFF) << 8 | ((int) (b * 255) & 0xFF);
+                }
+            }
+            this.tintIndices = tintIndices;
+        }
+
+        private CachedModel forTransform(ItemCameraTransforms.TransformType transformType)
+        {
+            this.transformType = transformType;
+            return this;
+        }
+
+        boolean isFor(ItemStack stack, ItemCameraTransforms.TransformType transformType)
+        {
+            return this.transformType == transformType && this.item == stack.getItem() && this.metadata == stack.getMetadata() && this.tag == stack.getTagCompound();
+        }
+
+        boolean isGui3d()
+        {
+            return gui3d;
+        }
+
+        /**
+         * @return Whether some vertices are to be tinted when rendering
+         */
+        boolean isTinted()
+        {
+            return tintIndices != null;
+        }
+
+        /**
+         * @param tint resolves the tint of vertices not tinted yet, or null to leave them as is
+         */
+        void render(Matrix4f transform, BufferBuilder buffer, int packedLight, @Nullable TintResolver tint)
+        {
+            int skyLight = (packedLight >> 16) & 0xFFFF;
+            int blockLight = packedLight & 0xFFFF;
+            int lastTintIndex = -1, tintColor = -1;
+            for (int v = 0; v < colors.length; v++)
+            {
+                float x = vertices[v * STRIDE], y = vertices[v * STRIDE + 1], z = vertices[v * STRIDE + 2];
+                int color = colors[v];
+                if (tint != null && tintIndices != null && tintIndices[v] >= 0)
+                {
+                    // Vertices of a quad share the tint, so resolve it once for them
+                    if (tintIndices[v] != lastTintIndex)
+                    {
+                        lastTintIndex = tintIndices[v];
+                        tintColor = tint.getColor(lastTintIndex);
+                    }
+                    color = multiply(color, tintColor);
+                }
+                buffer.pos(transform.m00 * x + transform.m01 * y + transform.m02 * z + transform.m03, transform.m10 * x + transform.m11 * y + transform.m12 * z + transform.m13, transform.m20 * x + transform.m21 * y + transform.m22 * z + transform.m23)
+                        .color((color >> 16) & 0xFF, (color >> 8) & 0xFF, color & 0xFF, (color >>> 24) & 0xFF)
+                        .tex(vertices[v * STRIDE + 3], vertices[v * STRIDE + 4])
+                        .lightmap(skyLight, blockLight)
+                        .endVertex();
+            }
+        }
+
+        private static int multiply(int color, int tintColor)
+        {
+            int r = ((color >> 16) & 0xFF) * ((tintColor >> 16) & 0xFF) / 255;
+            int g = ((color >> 8) & 0xFF) * ((tintColor >> 8) & 0xFF) / 255;
+            int b = (color & 0xFF) * (tintColor & 0xFF) / 255;
+            return (color & 0xFF000000) | r << 16 | g << 8 | b;
+        }
+    }
+}
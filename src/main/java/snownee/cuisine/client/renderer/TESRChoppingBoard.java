@@ -3,40 +3,34 @@ package snownee.cuisine.client.renderer;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.Minecraft;
-import net.minecraft.client.renderer.BlockRendererDispatcher;
 import net.minecraft.client.renderer.BufferBuilder;
-import net.minecraft.client.renderer.GlStateManager;
-import net.minecraft.client.renderer.RenderHelper;
-import net.minecraft.client.renderer.RenderItem;
-import net.minecraft.client.renderer.Tessellator;
 import net.minecraft.client.renderer.block.model.IBakedModel;
 import net.minecraft.client.renderer.block.model.ItemCameraTransforms;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
-import net.minecraft.client.renderer.texture.TextureMap;
-import net.minecraft.client.renderer.tileentity.TileEntitySpecialRenderer;
-import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.client.ForgeHooksClient;
+import net.minecraftforge.client.model.animation.FastTESR;
 import snownee.cuisine.CuisineRegistry;
 import snownee.cuisine.tiles.TileChoppingBoard;
 
-public class TESRChoppingBoard extends TileEntitySpecialRenderer<TileChoppingBoard>
+public class TESRChoppingBoard extends FastTESR<TileChoppingBoard>
 {
 
     @Override
-    public void render(TileChoppingBoard tile, double x, double y, double z, float partialTicks, int destroyStage, float alpha)
+    public void renderTileEntityFast(TileChoppingBoard tile, double x, double y, double z, float partialTicks, int destroyStage, float partial, BufferBuilder buffer)
     {
-        Minecraft mc = Minecraft.getMinecraft();
+        FastItemRenderer renderer = FastItemRenderer.INSTANCE;
+        int light = tile.hasWorld() ? tile.getWorld().getCombinedLight(tile.getPos(), 0) : FastItemRenderer.FULL_BRIGHT;
+        buffer.setTranslation(x, y, z);
+
         ItemStack itemStack = tile.stacks.getStackInSlot(0);
         if (!tile.isItem() && !itemStack.isEmpty())
         {
-            RenderItem renderItem = mc.getRenderItem();
-            IBakedModel iBakedModel = renderItem.getItemModelWithOverrides(itemStack, tile.getWorld(), mc.player);
-
-            GlStateManager.pushMatrix();
-            RenderHelper.disableStandardItemLighting();
+            FastItemRenderer.CachedModel model = renderer.getItemModel(itemStack, ItemCameraTransforms.TransformType.FIXED);
 
-            GlStateManager.translate(x + 0.5, y, z + 0.5);
+            renderer.loadIdentity();
+            renderer.translate(0.5, 0, 0.5);
 
             int angle = 0;
             if (tile.getFacing().getHorizontalAngle() % 180 != 0)
@@ -47,33 +41,29 @@ public class TESRChoppingBoard extends TileEntitySpecialRenderer<TileChoppingBoa
             {
                 angle += 90;
             }
-            GlStateManager.rotate(tile.getFacing().getHorizontalAngle() + angle, 0, 1, 0);
+            renderer.rotate(tile.getFacing().getHorizontalAngle() + angle, 0, 1, 0);
 
             if (itemStack.getItem() == CuisineRegistry.KITCHEN_KNIFE)
             {
-                GlStateManager.scale(0.75, 0.75, 0.75);
-                GlStateManager.translate(0, 0.75, -0.2);
-                GlStateManager.rotate(180, 1, 0F, 0.2F);
+                renderer.scale(0.75, 0.75, 0.75);
+                renderer.translate(0, 0.75, -0.2);
+                renderer.rotate(180, 1, 0F, 0.2F);
             }
-            else if (iBakedModel.isGui3d())
+            else if (model.isGui3d())
             {
                 // Block
-                GlStateManager.scale(0.8, 0.8, 0.8);
-                GlStateManager.translate(0, 0.55, 0);
+                renderer.scale(0.8, 0.8, 0.8);
+                renderer.translate(0, 0.55, 0);
             }
             else
             {
                 // Item
-                GlStateManager.scale(0.5, 0.5, 0.5);
-                GlStateManager.translate(0, 0.5, 0);
-                GlStateManager.rotate(90, 1, 0, 0);
+                renderer.scale(0.5, 0.5, 0.5);
+                renderer.translate(0, 0.5, 0);
+                renderer.rotate(90, 1, 0, 0);
             }
 
-            RenderHelper.enableStandardItemLighting();
-            renderItem.renderItem(itemStack, ItemCameraTransforms.TransformType.FIXED);
-            RenderHelper.disableStandardItemLighting();
-
-            GlStateManager.popMatrix();
+            renderer.render(model, buffer, light);
         }
 
         IBlockState state = tile.getCover();
@@ -82,58 +72,20 @@ public class TESRChoppingBoard extends TileEntitySpecialRenderer<TileChoppingBoa
             return;
         }
 
-        GlStateManager.pushMatrix();
-        GlStateManager.scale(0.75, 0.25, 0.75);
-        BufferBuilder buffer = Tessellator.getInstance().getBuffer();
-        bindTexture(TextureMap.LOCATION_BLOCKS_TEXTURE);
-
         BlockPos pos = tile.getPos();
 
-        if (tile.isItem())
-        {
-            GlStateManager.disableLighting();
-        }
-        else
-        {
-            RenderHelper.disableStandardItemLighting();
-        }
-
-        GlStateManager.blendFunc(GlStateManager.SourceFactor.SRC_ALPHA, GlStateManager.DestFactor.ONE_MINUS_SRC_ALPHA);
-        GlStateManager.enableBlend();
-        GlStateManager.disableCull();
-
-        if (Minecraft.isAmbientOcclusionEnabled())
-        {
-            GlStateManager.shadeModel(7425);
-        }
-        else
-        {
-            GlStateManager.shadeModel(7424);
-        }
-
-        buffer.begin(7, DefaultVertexFormats.BLOCK);
-        buffer.setTranslation(x / 0.75 - pos.getX() + 0.167F, y / 0.25 - pos.getY(), z / 0.75 - pos.getZ() + 0.167F);
-
-        BlockRendererDispatcher blockRendererDispatcher = mc.getBlockRendererDispatcher();
-        IBakedModel bakedModel = blockRendererDispatcher.getBlockModelShapes().getModelForState(state);
-
-        blockRendererDispatcher.getBlockModelRenderer().renderModel(getWorld(), bakedModel, state, pos, buffer, false);
+        renderer.loadIdentity();
+        renderer.scale(0.75, 0.25, 0.75);
+        renderer.translate(0.167F, 0, 0.167F);
+        renderer.renderBlock(state, getWorld(), pos, buffer, light);
 
         if (destroyStage >= 0)
         {
+            Minecraft mc = Minecraft.getMinecraft();
+            IBakedModel bakedModel = mc.getBlockRendererDispatcher().getModelForState(state);
             TextureAtlasSprite texture = mc.getTextureMapBlocks().getAtlasSprite("minecraft:blocks/destroy_stage_" + destroyStage);
-            IBakedModel bakedModelDestroy = net.minecraftforge.client.ForgeHooksClient.getDamageModel(bakedModel, texture, state, getWorld(), pos);
-            blockRendererDispatcher.getBlockModelRenderer().renderModel(getWorld(), bakedModelDestroy, state, pos, buffer, false);
-        }
-
-        buffer.setTranslation(0.0D, 0.0D, 0.0D);
-        Tessellator.getInstance().draw();
-        if (!tile.isItem())
-        {
-            RenderHelper.enableStandardItemLighting();
+            IBakedModel bakedModelDestroy = ForgeHooksClient.getDamageModel(bakedModel, texture, state, getWorld(), pos);
+            renderer.renderQuads(FastItemRenderer.collectQuads(bakedModelDestroy, state), buffer, light);
         }
-        GlStateManager.popMatrix();
-        GlStateManager.disableBlend();
-        GlStateManager.enableCull();
     }
 }
@@ -1,71 +1,62 @@
 package snownee.cuisine.client.renderer;
 
-import net.minecraft.client.Minecraft;
-import net.minecraft.client.renderer.GlStateManager;
-import net.minecraft.client.renderer.RenderHelper;
-import net.minecraft.client.renderer.RenderItem;
-import net.minecraft.client.renderer.block.model.IBakedModel;
+import net.minecraft.client.renderer.BufferBuilder;
 import net.minecraft.client.renderer.block.model.ItemCameraTransforms;
-import net.minecraft.client.renderer.tileentity.TileEntitySpecialRenderer;
 import net.minecraft.item.ItemStack;
-import net.minecraft.world.World;
+import net.minecraftforge.client.model.animation.FastTESR;
 import snownee.cuisine.tiles.TileMortar;
 
-public class TESRMortar extends TileEntitySpecialRenderer<TileMortar>
+public class TESRMortar extends FastTESR<TileMortar>
 {
 
     @Override
-    public void render(TileMortar tile, double x, double y, double z, float partialTicks, int destroyStage, float alpha)
+    public void renderTileEntityFast(TileMortar tile, double x, double y, double z, float partialTicks, int destroyStage, float partial, BufferBuilder buffer)
     {
         // Render the contents "inside" mortar.
-        // TODO Can we use FastTESR?
-        GlStateManager.pushMatrix();
+        FastItemRenderer renderer = FastItemRenderer.INSTANCE;
+        int light = tile.getWorld().getCombinedLight(tile.getPos(), 0);
+        buffer.setTranslation(x, y, z);
 
-        GlStateManager.translate(x + 0.5F, y, z + 0.5F);
+        renderer.loadIdentity();
+        renderer.translate(0.5F, 0, 0.5F);
 
         double offsetY = 0.125;
         double scale = 1.0;
         for (ItemStack stack : tile.stacks.getStacks())
         {
-            offsetY = renderItem(stack, tile.getWorld(), offsetY, scale);
+            offsetY = renderItem(renderer, stack, buffer, light, offsetY, scale);
         }
-
-        GlStateManager.popMatrix();
     }
 
-    private double renderItem(ItemStack itemStack, World world, double offsetY, double scale)
+    private static double renderItem(FastItemRenderer renderer, ItemStack itemStack, BufferBuilder buffer, int light, double offsetY, double scale)
     {
 
         if (!itemStack.isEmpty())
         {
-            RenderItem renderItem = Minecraft.getMinecraft().getRenderItem();
-            IBakedModel iBakedModel = renderItem.getItemModelWithOverrides(itemStack, world, null);
-
-            RenderHelper.enableStandardItemLighting();
-            GlStateManager.enableLighting();
+            FastItemRenderer.CachedModel model = renderer.getItemModel(itemStack, ItemCameraTransforms.TransformType.NONE);
 
-            GlStateManager.pushMatrix();
+            renderer.push();
 
-            if (iBakedModel.isGui3d())
+            if (model.isGui3d())
             {
                 // Block
-                GlStateManager.translate(0, offsetY, 0);
-                GlStateManager.scale(.2f * scale, .2f * scale, .2f * scale);
-                GlStateManager.rotate((float) (offsetY * 360), 0, 1, 0);
+                renderer.translate(0, offsetY, 0);
+                renderer.scale(.2f * scale, .2f * scale, .2f * scale);
+                renderer.rotate((float) (offsetY * 360), 0, 1, 0);
                 offsetY += 0.15;
             }
             else
             {
                 // Item
-                GlStateManager.translate(offsetY * 5 % 0.1 - 0.05, offsetY - 0.05, offsetY * 3 % 0.1 - 0.05);
-                GlStateManager.scale(.4f * scale, .4f * scale, .4f * scale);
-                GlStateManager.rotate(270, 1, 0.15F, 0);
+                renderer.translate(offsetY * 5 % 0.1 - 0.05, offsetY - 0.05, offsetY * 3 % 0.1 - 0.05);
+                renderer.scale(.4f * scale, .4f * scale, .4f * scale);
+                renderer.rotate(270, 1, 0.15F, 0);
                 offsetY += 0.03;
             }
 
-            Minecraft.getMinecraft().getRenderItem().renderItem(itemStack, ItemCameraTransforms.TransformType.NONE);
+            renderer.render(model, buffer, light);
 
-            GlStateManager.popMatrix();
+            renderer.pop();
         }
 
         return offsetY;
@@ -1,18 +1,38 @@
 package snownee.cuisine.client.renderer;
 
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+
+import org.lwjgl.opengl.GL11;
 
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.GLAllocation;
 import net.minecraft.client.renderer.GlStateManager;
 import net.minecraft.client.renderer.RenderHelper;
 import net.minecraft.client.renderer.RenderItem;
 import net.minecraft.client.renderer.block.model.ItemCameraTransforms;
+import net.minecraft.client.renderer.texture.TextureMap;
 import net.minecraft.client.renderer.tileentity.TileEntitySpecialRenderer;
 import net.minecraft.item.ItemStack;
 import snownee.cuisine.tiles.TileWok;
 
 public class TESRWok extends TileEntitySpecialRenderer<TileWok>
 {
+    /**
+     * Ticks between two checks for display lists of woks that are no longer loaded.
+     */
+    private static final int EVICTION_INTERVAL = 100;
+
+    /**
+     * Display lists of wok contents, keyed by the wok. Contents only change when an ingredient is
+     * added, the dish is served, or the wok is stirred, so there is no need to re-render every item
+     * on every frame.
+     */
+    private final Map<TileWok, CachedContents> cache = new HashMap<>();
+    private long lastEviction;
+
     @Override
     public void render(TileWok tile, double x, double y, double z, float partialTicks, int destroyStage, float alpha)
     {
@@ -22,23 +42,83 @@ public class TESRWok extends TileEntitySpecialRenderer<TileWok>
         }
 
         List<ItemStack> list = tile.getWokContents();
+        CachedContents cached = cache.get(tile);
 
         if (list.isEmpty())
         {
+            if (cached != null)
+            {
+                cache.remove(tile).delete();
+            }
             return;
         }
 
-        Minecraft mc = Minecraft.getMinecraft();
-
-        RenderItem renderItem = mc.getRenderItem();
+        long time = tile.getWorld().getTotalWorldTime();
+        if (time - lastEviction >= EVICTION_INTERVAL || time < lastEviction)
+        {
+            lastEviction = time;
+            evictUnloaded();
+        }
+        if (cached == null)
+        {
+            cache.put(tile, cached = new CachedContents());
+        }
 
         GlStateManager.pushMatrix();
-        RenderHelper.disableStandardItemLighting();
-        GlStateManager.disableLighting();
+        bindTexture(TextureMap.LOCATION_BLOCKS_TEXTURE);
+        GlStateManager.enableRescaleNormal();
+        RenderHelper.enableStandardItemLighting();
+        // Same state as RenderItem sets, so that the list is recorded and replayed from it
+        GlStateManager.alphaFunc(GL11.GL_GREATER, 0.1F);
+        GlStateManager.enableBlend();
+        GlStateManager.tryBlendFuncSeparate(GlStateManager.SourceFactor.SRC_ALPHA, GlStateManager.DestFactor.ONE_MINUS_SRC_ALPHA, GlStateManager.SourceFactor.ONE, GlStateManager.DestFactor.ZERO);
+        GlStateManager.cullFace(GlStateManager.CullFace.BACK);
 
         GlStateManager.translate(x + 0.5, y + 0.1, z + 0.5);
-        int count = 0;
 
+        if (cached.isOutdated(tile))
+        {
+            cached.rebuild(tile, list);
+        }
+        else if (cached.live)
+        {
+            renderContents(tile, list);
+        }
+        else
+        {
+            GlStateManager.callList(cached.displayList);
+        }
+
+        // Replaying the list does not update GlStateManager, which still believes blending and
+        // rescaling are enabled. Disabling them here reaches the GL, so that both agree again
+        GlStateManager.disableBlend();
+        RenderHelper.disableStandardItemLighting();
+        GlStateManager.disableRescaleNormal();
+        GlStateManager.popMatrix();
+    }
+
+    /**
+     * Release display lists of woks that are no longer in the world being rendered.
+     */
+    private void evictUnloaded()
+    {
+        Iterator<Map.Entry<TileWok, CachedContents>> itr = cache.entrySet().iterator();
+        while (itr.hasNext())
+        {
+            Map.Entry<TileWok, CachedContents> entry = itr.next();
+            TileWok tile = entry.getKey();
+            if (tile.isInvalid() || tile.getWorld() != Minecraft.getMinecraft().world || tile.getWorld().getTileEntity(tile.getPos()) != tile)
+            {
+                entry.getValue().delete();
+                itr.remove();
+            }
+        }
+    }
+
+    static void renderContents(TileWok tile, List<ItemStack> list)
+    {
+        RenderItem renderItem = Minecraft.getMinecraft().getRenderItem();
+        int count = 0;
         for (ItemStack stack : list)
         {
             GlStateManager.pushMatrix();
@@ -49,14 +129,73 @@ public class TESRWok extends TileEntitySpecialRenderer<TileWok>
             GlStateManager.rotate(360 * (seed % 943) / 943F, 0, 1, 0);
             GlStateManager.rotate(90, 1, 0, 0);
 
-            RenderHelper.enableStandardItemLighting();
             renderItem.renderItem(stack, ItemCameraTransforms.TransformType.FIXED);
-            RenderHelper.disableStandardItemLighting();
             GlStateManager.popMatrix();
 
             count++;
         }
+    }
 
-        GlStateManager.popMatrix();
+    /**
+     * Enchantment glint is animated, and built-in renderers may change any state, so neither
+     * can be recorded.
+     */
+    static boolean canRecord(TileWok tile, List<ItemStack> list)
+    {
+        RenderItem renderItem = Minecraft.getMinecraft().getRenderItem();
+        for (ItemStack stack : list)
+        {
+            if (stack.hasEffect() || renderItem.getItemModelWithOverrides(stack, tile.getWorld(), null).isBuiltInRenderer())
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class CachedContents
+    {
+        private final int displayList = GLAllocation.generateDisplayLists(1);
+        private int version;
+        private byte actionCycle;
+        private boolean valid = false;
+        /**
+         * Whether the contents are rendered on every frame instead of being recorded.
+         */
+        private boolean live = false;
+
+        boolean isOutdated(TileWok tile)
+        {
+            return !valid || version != tile.getWokContentsVersion() || actionCycle != tile.actionCycle;
+        }
+
+        /**
+         * Record the layout of current contents into the display list and draw it at the same time.
+         * It is recorded only with the state GlStateManager did not consider redundant, so it must
+         * be replayed from the same state as it was recorded.
+         */
+        void rebuild(TileWok tile, List<ItemStack> list)
+        {
+            this.live = !canRecord(tile, list);
+            if (live)
+            {
+                renderContents(tile, list);
+            }
+            else
+            {
+                GlStateManager.glNewList(displayList, GL11.GL_COMPILE_AND_EXECUTE);
+                renderContents(tile, list);
+                GlStateManager.glEndList();
+            }
+
+            this.version = tile.getWokContentsVersion();
+            this.actionCycle = tile.actionCycle;
+            this.valid = true;
+        }
+
+        void delete()
+        {
+            GLAllocation.deleteDisplayLists(displayList);
+        }
     }
 }
@@ -83,7 +83,8 @@ public class CommandSkill extends CommandBase
                 SkillUtil.setLevel(player, skillPoint, Integer.parseInt(args[3]));
                 break;
             case "add":
-                SkillUtil.increasePoint(player, skillPoint, Integer.parseInt(args[3]));
+                // Applied immediately rather than buffered like increasePoint, so that invalid values are reported
+                SkillUtil.setPoint(player, skillPoint, SkillUtil.getPoint(player, skillPoint) + Integer.parseInt(args[3]));
                 break;
             case "addlevel":
                 SkillUtil.increaseLevel(player, skillPoint, Integer.parseInt(args[3]));
@@ -25,7 +25,7 @@ public class EntityFallingFlower extends EntityFallingBlock implements IEntityAd
 {
     private byte note;
     private SoundEvent instrument;
-    private static final IBlockState[] STATES = new IBlockState[] { Blocks.YELLOW_FLOWER.getDefaultState(),
+    static final IBlockState[] STATES = new IBlockState[] { Blocks.YELLOW_FLOWER.getDefaultState(),
             Blocks.RED_FLOWER.getStateFromMeta(0), Blocks.RED_FLOWER.getStateFromMeta(1),
             Blocks.RED_FLOWER.getStateFromMeta(2), Blocks.RED_FLOWER.getStateFromMeta(3),
             Blocks.RED_FLOWER.getStateFromMeta(4), Blocks.RED_FLOWER.getStateFromMeta(5),
@@ -1,9 +1,9 @@
 package snownee.cuisine.entities;
 
+import javax.annotation.Nullable;
+
 import net.minecraft.block.BlockTallGrass;
 import net.minecraft.entity.Entity;
-import net.minecraft.init.Blocks;
-import net.minecraft.init.SoundEvents;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.datasync.DataParameter;
 import net.minecraft.network.datasync.DataSerializers;
@@ -11,8 +11,10 @@ import net.minecraft.network.datasync.EntityDataManager;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
+import net.minecraftforge.common.util.Constants;
 import snownee.cuisine.items.ItemLifeEssence;
 import snownee.cuisine.network.PacketCustomEvent;
+import snownee.cuisine.network.PacketFlowerShow;
 import snownee.kiwi.network.NetworkChannel;
 
 public class EntityLifeEssence extends Entity
@@ -22,6 +24,15 @@ public class EntityLifeEssence extends Entity
     private EnumInvokeType type;
     private int age;
     private BlockPos pos;
+    /**
+     * Planned when the flower show starts. Server only.
+     */
+    @Nullable
+    private FlowerShow show;
+    /**
+     * Whether clients around were sent the show since it was planned or loaded. Server only.
+     */
+    private boolean showSent;
 
     public EntityLifeEssence(World worldIn)
     {
@@ -35,7 +46,7 @@ public class EntityLifeEssence extends Entity
         this(worldIn);
         this.type = type;
         this.pos = pos;
-        setAge(type == EnumInvokeType.GARDEN ? 100 : 400);
+        setAge(type == EnumInvokeType.GARDEN ? 100 : FlowerShow.DURATION);
         setPos(pos);
         setPosition(pos.getX() + 0.5D, pos.getY() + 0.5D, pos.getZ() + 0.5D);
     }
@@ -59,6 +70,10 @@ public class EntityLifeEssence extends Entity
                 {
                     // world.setBlockState(pos, CuisineRegistry.GARDEN.getDefaultState(), 3);
                 }
+                else if (type == EnumInvokeType.FLOWER && show != null)
+                {
+                    show.placeFlowers(world);
+                }
             }
             setDead();
         }
@@ -68,123 +83,20 @@ public class EntityLifeEssence extends Entity
         }
         else if (type == EnumInvokeType.FLOWER)
         {
-            int step = 399 - age;
-            int note = -1;
-            switch (step)
-            {
-            case 0:
-            case 12:
-            case 48:
-            case 60:
-            case 96:
-            case 108:
-                note = 1;
-                break;
-
-            case 6:
-            case 54:
-            case 102:
-                note = 3;
-                break;
-
-            case 18:
-            case 66:
-            case 114:
-                note = 13;
-                break;
-
-            case 30:
-            case 78:
-            case 126:
-            case 162:
-                note = 10;
-                break;
-
-            case 138:
-            case 168:
-                note = 8;
-                break;
-
-            case 150:
-                note = 6;
-                break;
-
-            case 192:
-            case 204:
-            case 240:
-            case 252:
-            case 288:
-            case 300:
-                note = 1;
-                break;
-
-            case 198:
-            case 246:
-            case 294:
-                note = 3;
-                break;
-
-            case 210:
-            case 258:
-            case 340:
-                note = 13;
-                break;
-
-            case 222:
-            case 270:
-            case 306:
-            case 330:
-            case 344:
-                note = 10;
-                break;
-
-            case 336:
-            case 354:
-                note = 8;
-                break;
-
-            case 360:
-                note = 6;
-                break;
-            }
-
-            if (note != -1)
-            {
-                BlockPos blockPos = findLandingPlace();
-                world.spawnEntity(new EntityFallingFlower(world, blockPos.getX() + 0.5D, blockPos.getY() + 50.5D, blockPos.getZ() + 0.5D, SoundEvents.BLOCK_NOTE_HARP, (byte) note));
-            }
-        }
-
-    }
-
-    private boolean[][] map;
-
-    @SuppressWarnings("null")
-    private BlockPos findLandingPlace()
-    {
-        if (map == null)
-        {
-            map = new boolean[31][31];
-        }
-        BlockPos retPos = null;
-        int offsetX = 0, offsetZ = 0;
-        int i;
-        for (i = 0; i < 30; i++)
-        {
-            offsetX = (rand.nextBoolean() ? 1 : -1) * (rand.nextInt(i % 15 + 5) + 1);
-            offsetZ = (rand.nextBoolean() ? 1 : -1) * (rand.nextInt(i % 15 + 5) + 1);
-            if (map[15 + offsetX][15 + offsetZ])
+            if (show == null)
             {
-                continue;
+                show = FlowerShow.plan(world, pos, rand);
+                // An entity loaded without a show may have less time left than the show takes
+                setAge(FlowerShow.DURATION - 1);
             }
-            retPos = world.getPrecipitationHeight(pos.add(offsetX, 0, offsetZ));
-            if (Math.abs(retPos.getY() - pos.getY()) < 10 && (i >= 15 || Blocks.RED_FLOWER.canBlockStay(world, retPos, Blocks.RED_FLOWER.getDefaultState())))
+            if (!showSent)
             {
-                break;
+                // Clients animate the whole show on their own, see FlowerShowAnimation. After
+                // the entity is loaded again, they resume it from where it stopped
+                NetworkChannel.INSTANCE.sendToAllAround(new PacketFlowerShow(show, FlowerShow.DURATION - 1 - age), world.provider.getDimension(), pos);
+                showSent = true;
             }
         }
-        map[15 + offsetX][15 + offsetZ] = true;
-        return i == 30 ? new BlockPos(retPos.getX(), pos.getY(), retPos.getZ()) : retPos.up();
     }
 
     private boolean checkBlock()
@@ -237,6 +149,7 @@ public class EntityLifeEssence extends Entity
         this.type = EnumInvokeType.values()[compound.getShort("Type")];
         this.age = compound.getShort("Age");
         this.pos = new BlockPos(compound.getInteger("TargetX"), compound.getInteger("TargetY"), compound.getInteger("TargetZ"));
+        this.show = compound.hasKey("Show", Constants.NBT.TAG_COMPOUND) ? FlowerShow.readFromNBT(compound.getCompoundTag("Show")) : null;
     }
 
     @Override
@@ -247,6 +160,12 @@ public class EntityLifeEssence extends Entity
         compound.setInteger("TargetX", pos.getX());
         compound.setInteger("TargetY", pos.getY());
         compound.setInteger("TargetZ", pos.getZ());
+        if (show != null)
+        {
+            NBTTagCompound showTag = new NBTTagCompound();
+            show.writeToNBT(showTag);
+            compound.setTag("Show", showTag);
+        }
     }
 
     public enum EnumInvokeType
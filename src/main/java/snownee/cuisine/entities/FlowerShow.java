@@ -0,0 +1,262 @@
+package snownee.cuisine.entities;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import javax.annotation.Nullable;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * The flower show invoked by life essence: a tune played by flowers falling from the sky
+ * around the target, one flower for each note.
+ * <p>
+ * The server plans where every flower lands when the show starts, and sends the plan to
+ * clients in one packet. Clients animate falling flowers with particles and play the notes,
+ * while the server only places all the flower blocks at the end of the show.
+ */
+public final class FlowerShow
+{
+    /**
+     * Ticks after the start of the show when each flower starts falling.
+     */
+    private static final int[] STEPS = { 0, 6, 12, 18, 30, 48, 54, 60, 66, 78, 96, 102, 108, 114, 126, 138, 150, 162, 168, 192, 198, 204, 210, 222, 240, 246, 252, 258, 270, 288, 294, 300, 306, 330, 336, 340, 344, 354, 360 };
+    /**
+     * Note played by each flower when it lands, in semitones as used by note blocks.
+     */
+    private static final byte[] NOTES = { 1, 3, 1, 13, 10, 1, 3, 1, 13, 10, 1, 3, 1, 13, 10, 8, 6, 10, 8, 1, 3, 1, 13, 10, 1, 3, 1, 13, 10, 1, 3, 1, 10, 10, 8, 13, 10, 8, 6 };
+    /**
+     * Flowers fall from 50 blocks above their landing places.
+     */
+    static final int FALL_HEIGHT = 50;
+    /**
+     * Ticks it takes to fall {@link #FALL_HEIGHT} blocks with the motion of the falling
+     * flower entity used before, see {@link #getHeight(double)}.
+     */
+    public static final int FALL_TICKS = 80;
+    /**
+     * Ticks from the start of the show until the last flower lands.
+     */
+    public static final int DURATION = STEPS[STEPS.length - 1] + FALL_TICKS + 1;
+
+    private static final int RANGE = 15;
+
+    private final BlockPos center;
+    /**
+     * Offsets of landing places from the center, 3 for each flower.
+     */
+    private final short[] offsets;
+    /**
+     * Index of each flower in {@link EntityFallingFlower#STATES}.
+     */
+    private final byte[] flowers;
+
+    private FlowerShow(BlockPos center, short[] offsets, byte[] flowers)
+    {
+        this.center = center;
+        this.offsets = offsets;
+        this.flowers = flowers;
+    }
+
+    /**
+     * Plan a show around the given position. Each flower prefers a column near the center
+     * that no other flower has taken, where a flower can stay.
+     */
+    static FlowerShow plan(World world, BlockPos center, Random rand)
+    {
+        int size = RANGE * 2 + 1;
+        boolean[] taken = new boolean[size * size];
+        // Precipitation height of each column, looked up once
+        int[] heights = new int[size * size];
+        Arrays.fill(heights, Integer.MIN_VALUE);
+        short[] offsets = new short[STEPS.length * 3];
+        byte[] flowers = new byte[STEPS.length];
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int n = 0; n < STEPS.length; n++)
+        {
+            int offsetX = 0, offsetZ = 0, column = 0;
+            for (int i = 0; i < 30; i++)
+            {
+                offsetX = (rand.nextBoolean() ? 1 : -1) * (rand.nextInt(i % 15 + 5) + 1);
+                offsetZ = (rand.nextBoolean() ? 1 : -1) * (rand.nextInt(i % 15 + 5) + 1);
+                column = (RANGE + offsetX) * size + RANGE + offsetZ;
+                if (taken[column])
+                {
+                    continue;
+                }
+                int y = getHeight(world, center, offsetX, offsetZ, heights, column, pos);
+                pos.setPos(center.getX() + offsetX, y, center.getZ() + offsetZ);
+                if (Math.abs(y - center.getY()) < 10 && (i >= 15 || Blocks.RED_FLOWER.canBlockStay(world, pos, Blocks.RED_FLOWER.getDefaultState())))
+                {
+                    break;
+                }
+            }
+            taken[column] = true;
+            // The flower lands on top of the column anyway, even if no place was good enough
+            offsets[n * 3] = (short) offsetX;
+            offsets[n * 3 + 1] = (short) (getHeight(world, center, offsetX, offsetZ, heights, column, pos) - center.getY());
+            offsets[n * 3 + 2] = (short) offsetZ;
+            flowers[n] = (byte) rand.nextInt(EntityFallingFlower.STATES.length);
+        }
+        return new FlowerShow(center, offsets, flowers);
+    }
+
+    private static int getHeight(World world, BlockPos center, int offsetX, int offsetZ, int[] heights, int column, BlockPos.MutableBlockPos pos)
+    {
+        if (heights[column] == Integer.MIN_VALUE)
+        {
+            heights[column] = world.getPrecipitationHeight(pos.setPos(center.getX() + offsetX, 0, center.getZ() + offsetZ)).getY();
+        }
+        return heights[column];
+    }
+
+    public int getFlowerCount()
+    {
+        return flowers.length;
+    }
+
+    /**
+     * @return Ticks after the start of the show when the given flower starts falling
+     */
+    public int getStep(int flower)
+    {
+        return STEPS[flower];
+    }
+
+    public byte getNote(int flower)
+    {
+        return NOTES[flower];
+    }
+
+    public IBlockState getFlower(int flower)
+    {
+        return EntityFallingFlower.STATES[flowers[flower]];
+    }
+
+    public int getLandingX(int flower)
+    {
+        return center.getX() + offsets[flower * 3];
+    }
+
+    public int getLandingY(int flower)
+    {
+        return center.getY() + offsets[flower * 3 + 1];
+    }
+
+    public int getLandingZ(int flower)
+    {
+        return center.getZ() + offsets[flower * 3 + 2];
+    }
+
+    /**
+     * @param ticks Ticks since the flower started falling, may be fractional
+     * @return Height of a falling flower above its landing place
+     */
+    public static double getHeight(double ticks)
+    {
+        // Falling flowers started with motionY -1.25 and no gravity, with a drag of 0.98 per tick
+        return Math.max(0, FALL_HEIGHT - 62.5D * (1 - Math.pow(0.98D, ticks)));
+    }
+
+    /**
+     * Place all the flowers where they landed, at the end of the show.
+     */
+    void placeFlowers(World world)
+    {
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int i = 0; i < flowers.length; i++)
+        {
+            pos.setPos(getLandingX(i), getLandingY(i), getLandingZ(i));
+            if (!world.isBlockLoaded(pos))
+            {
+                continue;
+            }
+            IBlockState state = getFlower(i);
+            if (world.getBlockState(pos).getBlock().isReplaceable(world, pos) && state.getBlock().canPlaceBlockAt(world, pos))
+            {
+                world.setBlockState(pos, state, 3);
+            }
+            else
+            {
+                // Same as what a falling block does when it cannot be placed
+                Block.spawnAsEntity(world, pos, new ItemStack(state.getBlock(), 1, state.getBlock().damageDropped(state)));
+            }
+        }
+    }
+
+    public void writeToNBT(NBTTagCompound compound)
+    {
+        compound.setLong("Center", center.toLong());
+        int[] offsets = new int[this.offsets.length];
+        for (int i = 0; i < offsets.length; i++)
+        {
+            offsets[i] = this.offsets[i];
+        }
+        compound.setIntArray("Offsets", offsets);
+        compound.setByteArray("Flowers", flowers);
+    }
+
+    /**
+     * @return The show saved in the compound, or null if it is not a valid one
+     */
+    @Nullable
+    public static FlowerShow readFromNBT(NBTTagCompound compound)
+    {
+        int[] savedOffsets = compound.getIntArray("Offsets");
+        byte[] flowers = compound.getByteArray("Flowers");
+        if (flowers.length == 0 || flowers.length > STEPS.length || savedOffsets.length != flowers.length * 3)
+        {
+            return null;
+        }
+        short[] offsets = new short[savedOffsets.length];
+        for (int i = 0; i < offsets.length; i++)
+        {
+            offsets[i] = (short) savedOffsets[i];
+        }
+        for (int i = 0; i < flowers.length; i++)
+        {
+            flowers[i] = (byte) Math.floorMod(flowers[i], EntityFallingFlower.STATES.length);
+        }
+        return new FlowerShow(BlockPos.fromLong(compound.getLong("Center")), offsets, flowers);
+    }
+
+    public void write(ByteBuf buffer)
+    {
+        buffer.writeLong(center.toLong());
+        buffer.writeByte(flowers.length);
+        for (short offset : offsets)
+        {
+            buffer.writeShort(offset);
+        }
+        buffer.writeBytes(flowers);
+    }
+
+    /**
+     * @return The show read from the buffer. Steps and notes are not sent, since every
+     *         show plays the same tune.
+     */
+    public static FlowerShow read(ByteBuf buffer)
+    {
+        BlockPos center = BlockPos.fromLong(buffer.readLong());
+        int count = Math.min(buffer.readUnsignedByte(), STEPS.length);
+        short[] offsets = new short[count * 3];
+        byte[] flowers = new byte[count];
+        for (int i = 0; i < offsets.length; i++)
+        {
+            offsets[i] = buffer.readShort();
+        }
+        buffer.readBytes(flowers);
+        for (int i = 0; i < count; i++)
+        {
+            flowers[i] = (byte) Math.floorMod(flowers[i], EntityFallingFlower.STATES.length);
+        }
+        return new FlowerShow(center, offsets, flowers);
+    }
+}
@@ -1,8 +1,10 @@
 package snownee.cuisine.events;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
-import com.google.common.collect.Lists;
+import com.google.common.collect.ImmutableList;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
@@ -10,6 +12,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.CraftingManager;
 import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.stats.RecipeBook;
 import net.minecraftforge.fml.common.eventhandler.EventPriority;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.PlayerEvent;
@@ -19,6 +22,29 @@ import snownee.cuisine.CuisineRegistry;
 
 public class SpawnHandler
 {
+    /**
+     * All crafting recipes of Cuisine that players should know from the beginning.
+     * @see #refreshRecipeList()
+     */
+    private static List<IRecipe> cuisineRecipes = Collections.emptyList();
+
+    /**
+     * Rebuild the list of Cuisine recipes unlocked on login. Must be called after recipes are
+     * registered or changed, e.g. when a server starts.
+     */
+    public static void refreshRecipeList()
+    {
+        ImmutableList.Builder<IRecipe> builder = ImmutableList.builder();
+        for (IRecipe recipe : CraftingManager.REGISTRY)
+        {
+            if (recipe.getRegistryName() != null && recipe.getRegistryName().getNamespace().equals(Cuisine.MODID) && !recipe.getRecipeOutput().isEmpty())
+            {
+                builder.add(recipe);
+            }
+        }
+        cuisineRecipes = builder.build();
+    }
+
     @SubscribeEvent(priority = EventPriority.LOW)
     public void onPlayerLoggedIn(PlayerEvent.PlayerLoggedInEvent event)
     {
@@ -43,9 +69,23 @@ public class SpawnHandler
 
         if (event.player instanceof EntityPlayerMP)
         {
-            ArrayList<IRecipe> recipes = Lists.newArrayList(CraftingManager.REGISTRY);
-            recipes.removeIf(recipe -> !recipe.getRegistryName().getNamespace().equals(Cuisine.MODID) || recipe.getRecipeOutput().isEmpty());
-            event.player.unlockRecipes(recipes);
+            RecipeBook recipeBook = ((EntityPlayerMP) event.player).getRecipeBook();
+            List<IRecipe> locked = null;
+            for (IRecipe recipe : cuisineRecipes)
+            {
+                if (!recipeBook.isUnlocked(recipe))
+                {
+                    if (locked == null)
+                    {
+                        locked = new ArrayList<>();
+                    }
+                    locked.add(recipe);
+                }
+            }
+            if (locked != null) // Don't bother if player already knows everything
+            {
+                event.player.unlockRecipes(locked);
+            }
         }
     }
 }
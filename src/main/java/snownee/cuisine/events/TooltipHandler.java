@@ -1,17 +1,12 @@
 package snownee.cuisine.events;
 
 import java.util.List;
-import java.util.Set;
 
-import it.unimi.dsi.fastutil.objects.Object2DoubleArrayMap;
-import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.GlStateManager;
 import net.minecraft.item.EnumRarity;
 import net.minecraft.item.ItemDye;
 import net.minecraft.item.ItemStack;
-import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraftforge.client.event.RenderTooltipEvent;
 import net.minecraftforge.event.entity.player.ItemTooltipEvent;
@@ -20,23 +15,27 @@ import net.minecraftforge.fml.common.eventhandler.EventPriority;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.relauncher.Side;
 import snownee.cuisine.Cuisine;
-import snownee.cuisine.CuisineRegistry;
-import snownee.cuisine.api.CompositeFood;
-import snownee.cuisine.api.CulinaryCapabilities;
-import snownee.cuisine.api.CulinaryHub;
-import snownee.cuisine.api.FoodContainer;
-import snownee.cuisine.api.Form;
-import snownee.cuisine.api.Ingredient;
-import snownee.cuisine.api.Material;
-import snownee.cuisine.api.MaterialCategory;
-import snownee.cuisine.client.CulinaryRenderHelper;
-import snownee.cuisine.internal.CuisinePersistenceCenter;
-import snownee.cuisine.items.ItemAbstractComposite;
+import snownee.cuisine.client.FoodTooltipModel;
 import snownee.cuisine.library.RarityManager;
 
 @EventBusSubscriber(modid = Cuisine.MODID, value = Side.CLIENT)
 public class TooltipHandler
 {
+    /**
+     * Blank lines reserving space for category icons, indexed by number of icons.
+     */
+    private static final String[] SPACERS = new String[13];
+
+    static
+    {
+        StringBuilder string = new StringBuilder();
+        for (int i = 0; i < SPACERS.length; ++i)
+        {
+            SPACERS[i] = string.toString();
+            string.append("  ");
+        }
+    }
+
     @SubscribeEvent(priority = EventPriority.LOW)
     public static void makeTooltip(ItemTooltipEvent event)
     {
@@ -44,70 +43,17 @@ public class TooltipHandler
         {
             return;
         }
-        ItemStack stack = event.getItemStack();
-        int i;
-        if (stack.getItem() == CuisineRegistry.INGREDIENT || CulinaryHub.API_INSTANCE.isKnownMaterial(stack))
-        {
-            Ingredient ingredient = null;
-            if (stack.getItem() == CuisineRegistry.INGREDIENT)
-            {
-                NBTTagCompound data = stack.getTagCompound();
-                if (data != null)
-                {
-                    ingredient = CuisinePersistenceCenter.deserializeIngredient(data);
-                }
-            }
-            else
-            {
-                Material material = CulinaryHub.API_INSTANCE.findMaterial(stack);
-                if (material.isValidForm(Form.FULL))
-                {
-                    ingredient = new Ingredient(material);
-                }
-            }
-
-            if (ingredient == null)
-            {
-                return;
-            }
-
-            // add categories line
-            i = ingredient.getMaterial().getCategories().size() * MathHelper.ceil(ingredient.getSize());
-        }
-        else if (stack.getItem() instanceof ItemAbstractComposite)
-        {
-            FoodContainer container = stack.getCapability(CulinaryCapabilities.FOOD_CONTAINER, null);
-            CompositeFood composite;
-            if (container == null || (composite = container.get()) == null)
-            {
-                return;
-            }
-
-            Object2DoubleMap<MaterialCategory> map = new Object2DoubleArrayMap<>();
-            for (Ingredient ingredient : composite.getIngredients())
-            {
-                for (MaterialCategory category : ingredient.getMaterial().getCategories())
-                {
-                    map.put(category, map.getOrDefault(category, 0D) + ingredient.getSize());
-                }
-            }
-            i = map.values().stream().mapToInt(MathHelper::ceil).sum();
-
-            //            event.getToolTip().add(1, "   " + composite.getFoodLevel() + "   " + String.format("%.1f", composite.getFoodLevel() * composite.getSaturationModifier()));
-        }
-        else
+        FoodTooltipModel model = FoodTooltipModel.of(event.getItemStack());
+        if (model == null)
         {
             return;
         }
+        // add categories line
+        int i = model.getIconCount();
+        //            event.getToolTip().add(1, "   " + composite.getFoodLevel() + "   " + String.format("%.1f", composite.getFoodLevel() * composite.getSaturationModifier()));
         if (i > 0)
         {
-            i = Math.min(i, 12);
-            StringBuilder string = new StringBuilder();
-            for (int j = 0; j < i; ++j)
-            {
-                string.append("  ");
-            }
-            event.getToolTip().add(1, string.toString());
+            event.getToolTip().add(1, SPACERS[Math.min(i, 12)]);
         }
     }
 
@@ -135,7 +81,11 @@ public class TooltipHandler
     @SubscribeEvent(priority = EventPriority.LOW)
     public static void renderTooltip(RenderTooltipEvent.PostText event)
     {
-        ItemStack stack = event.getStack();
+        FoodTooltipModel model = FoodTooltipModel.of(event.getStack());
+        if (model == null || model.getIconCount() == 0)
+        {
+            return;
+        }
         int y = event.getY() + event.getFontRenderer().FONT_HEIGHT + 3;
 
         List<String> lines = event.getLines();
@@ -158,85 +108,14 @@ public class TooltipHandler
 
         int x = event.getX();
 
-        if (stack.getItem() == CuisineRegistry.INGREDIENT || CulinaryHub.API_INSTANCE.isKnownMaterial(stack))
-        {
-            if (event.getLines().size() == 0)
-            {
-                return;
-            }
-            final Ingredient ingredient;
-            if (stack.getItem() == CuisineRegistry.INGREDIENT)
-            {
-                NBTTagCompound data = stack.getTagCompound();
-                if (data == null)
-                {
-                    return;
-                }
-                ingredient = CuisinePersistenceCenter.deserializeIngredient(data);
-            }
-            else
-            {
-                Material material = CulinaryHub.API_INSTANCE.findMaterial(stack);
-                if (!material.isValidForm(Form.FULL))
-                {
-                    return;
-                }
-                ingredient = new Ingredient(material);
-            }
-
-            GlStateManager.pushMatrix();
-            GlStateManager.color(1F, 1F, 1F);
-
-            Set<MaterialCategory> set = ingredient.getMaterial().getCategories();
-            if (!set.isEmpty())
-            {
-                GlStateManager.pushMatrix();
-                GlStateManager.translate(x, y, 0);
-                GlStateManager.scale(0.5F, 0.5F, 0.5F);
-
-                Object2DoubleMap<MaterialCategory> map = new Object2DoubleArrayMap<>();
-                for (MaterialCategory category : set)
-                {
-                    map.put(category, ingredient.getSize());
-                }
-                CulinaryRenderHelper.renderMaterialCategoryIcons(map, 0, 0, 0.4F + ingredient.getMaterial().getSaturationModifier(ingredient), event.getWidth() * 2 - 5);
-                GlStateManager.popMatrix();
-
-                //                y += 10;
-            }
-
-            GlStateManager.popMatrix();
-        }
-        else if (stack.hasCapability(CulinaryCapabilities.FOOD_CONTAINER, null))
-        {
-            FoodContainer container = stack.getCapability(CulinaryCapabilities.FOOD_CONTAINER, null);
-            CompositeFood composite;
-            if (container == null || (composite = container.get()) == null)
-            {
-                return;
-            }
+        GlStateManager.pushMatrix();
+        GlStateManager.color(1F, 1F, 1F);
+        GlStateManager.translate(x, y, 0);
+        GlStateManager.scale(0.5F, 0.5F, 0.5F);
 
-            Object2DoubleMap<MaterialCategory> map = new Object2DoubleArrayMap<>();
-            for (Ingredient ingredient : composite.getIngredients())
-            {
-                for (MaterialCategory category : ingredient.getMaterial().getCategories())
-                {
-                    map.put(category, map.getOrDefault(category, 0D) + ingredient.getSize());
-                }
-            }
+        model.renderIcons(0, 0, event.getWidth() * 2 - 5);
+        GlStateManager.popMatrix();
 
-            if (!map.isEmpty())
-            {
-                GlStateManager.pushMatrix();
-                GlStateManager.color(1F, 1F, 1F);
-                GlStateManager.translate(x, y, 0);
-                GlStateManager.scale(0.5F, 0.5F, 0.5F);
-
-                CulinaryRenderHelper.renderMaterialCategoryIcons(map, 0, 0, composite.getSaturationModifier(), event.getWidth() * 2 - 5);
-                GlStateManager.popMatrix();
-
-                //                y += 10;
-            }
-        }
+        //                y += 10;
     }
 }
@@ -115,9 +115,10 @@ public final class CuisineInternalGateway implements CuisineAPI
      */
     public final Map<Fluid, Spice> fluidToSpiceMapping = new HashMap<>();
 
-    private CuisineInternalGateway()
+    CuisineInternalGateway()
     {
-        // No-op, only restricting access level
+        // No-op, only restricting access level. Package-private so that benchmarks can
+        // set up their own instance without the registries of a running game.
     }
 
     @Override
@@ -1,6 +1,8 @@
 package snownee.cuisine.internal.food;
 
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 import net.minecraft.item.ItemStack;
 import snownee.cuisine.CuisineRegistry;
@@ -35,6 +37,12 @@ public class Dish extends CompositeFood
 
     @Override
     public String getOrComputeModelType()
+    {
+        return this.getOrComputeModelType(ThreadLocalRandom.current());
+    }
+
+    @Override
+    public String getOrComputeModelType(Random rand)
     {
         if (this.modelType != null)
         {
@@ -51,15 +59,15 @@ public class Dish extends CompositeFood
         }
         else if (ingredients.stream().allMatch(i -> i.getMaterial().isUnderCategoryOf(MaterialCategory.MEAT)))
         {
-            this.modelType = Math.random() >= 0.5 ? "meat1" : "meat0";
+            this.modelType = rand.nextBoolean() ? "meat1" : "meat0";
         }
         else if (ingredients.stream().allMatch(i -> i.getMaterial().isUnderCategoryOf(MaterialCategory.VEGETABLES)))
         {
-            this.modelType = Math.random() >= 0.5 ? "veges0" : "veges1";
+            this.modelType = rand.nextBoolean() ? "veges0" : "veges1";
         }
         else
         {
-            this.modelType = Math.random() >= 0.5 ? "mixed0" : "mixed1";
+            this.modelType = rand.nextBoolean() ? "mixed0" : "mixed1";
         }
 
         return this.modelType;
@@ -1,8 +1,6 @@
 package snownee.cuisine.items;
 
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -11,7 +9,6 @@ import org.lwjgl.input.Keyboard;
 
 import net.minecraft.advancements.CriteriaTriggers;
 import net.minecraft.client.gui.FontRenderer;
-import net.minecraft.client.resources.I18n;
 import net.minecraft.client.util.ITooltipFlag;
 import net.minecraft.creativetab.CreativeTabs;
 import net.minecraft.entity.EntityLivingBase;
@@ -35,17 +32,13 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import snownee.cuisine.api.CompositeFood;
 import snownee.cuisine.api.CulinaryCapabilities;
-import snownee.cuisine.api.Effect;
 import snownee.cuisine.api.FoodContainer;
-import snownee.cuisine.api.Ingredient;
-import snownee.cuisine.api.IngredientTrait;
-import snownee.cuisine.api.Seasoning;
+import snownee.cuisine.client.FoodTooltipModel;
 import snownee.cuisine.internal.CuisinePersistenceCenter;
 import snownee.cuisine.util.I18nUtil;
 import snownee.cuisine.util.ItemNBTUtil;
 import snownee.kiwi.client.AdvancedFontRenderer;
 import snownee.kiwi.item.ItemMod;
-import snownee.kiwi.util.Util;
 
 public abstract class ItemAbstractComposite extends ItemMod
 {
@@ -183,57 +176,15 @@ public abstract class ItemAbstractComposite extends ItemMod
             return;
         }
 
+        FoodTooltipModel model = FoodTooltipModel.of(dish);
         if (Keyboard.isKeyDown(Keyboard.KEY_LSHIFT) || Keyboard.isKeyDown(Keyboard.KEY_RSHIFT))
         {
-            List<Ingredient> ingredients = dish.getIngredients();
-            if (!ingredients.isEmpty())
-            {
-                tooltip.add(I18nUtil.translate("tip.ingredients"));
-
-                for (Ingredient ingredient : ingredients)
-                {
-                    StringBuilder line = new StringBuilder("  " + ingredient.getTranslation());
-                    Set<IngredientTrait> characteristics = ingredient.getAllTraits();
-                    if (!characteristics.isEmpty())
-                    {
-                        line.append(" ").append(TextFormatting.ITALIC);
-                    }
-                    for (IngredientTrait characteristic : characteristics)
-                    {
-                        line.append(" ").append(I18n.format(characteristic.getTranslationKey()));
-                    }
-                    tooltip.add(line.toString());
-                }
-            }
-
-            List<Seasoning> seasonings = dish.getSeasonings();
-            if (!seasonings.isEmpty())
-            {
-                if (!ingredients.isEmpty())
-                {
-                    tooltip.add("");
-                }
-                tooltip.add(I18nUtil.translate("tip.seasonings"));
-
-                for (Seasoning seasoning : seasonings)
-                {
-                    tooltip.add("  " + I18n.format(seasoning.getSpice().getTranslationKey()) + " * " + seasoning.getSize());
-                }
-            }
+            tooltip.addAll(model.getDetailLines(dish));
         }
         else
         {
             tooltip.add(I18nUtil.translate("tip.food_durability", dish.getServes()));
-
-            Set<Effect> effects = dish.getIngredients().stream().map(Ingredient::getEffects).flatMap(Set::stream).collect(Collectors.toSet());
-            effects.addAll(dish.getEffects());
-            for (Effect effect : effects)
-            {
-                if (effect.showInTooltips())
-                {
-                    tooltip.add(Util.color(effect.getColorForDisplay()) + I18n.format(effect.getName()));
-                }
-            }
+            tooltip.addAll(model.getEffectLines(dish));
 
             tooltip.add(TextFormatting.WHITE + TextFormatting.ITALIC.toString() + I18nUtil.translate("tip.shift_ingredients"));
 
@@ -37,7 +37,7 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import snownee.cuisine.Cuisine;
 import snownee.cuisine.blocks.BlockCuisineCrops;
 import snownee.cuisine.blocks.BlockDoubleCrops;
-import snownee.cuisine.client.particle.ParticleGrowth;
+import snownee.cuisine.client.particle.CuisineParticles;
 import snownee.cuisine.entities.EntityLifeEssence;
 import snownee.cuisine.network.PacketCustomEvent;
 import snownee.kiwi.item.ItemMod;
@@ -216,11 +216,12 @@ public class ItemLifeEssence extends ItemMod
     @SideOnly(Side.CLIENT)
     public static void splashParticles(World worldIn, Vec3d pos)
     {
-        for (int i = 0; i < (FMLClientHandler.instance().getClient().gameSettings.fancyGraphics ? 30 : 15); i++)
+        int count = CuisineParticles.allowance(pos.x + 0.5D, pos.y + 0.5D, pos.z + 0.5D, FMLClientHandler.instance().getClient().gameSettings.fancyGraphics ? 30 : 15);
+        for (int i = 0; i < count; i++)
         {
             double d0 = worldIn.rand.nextGaussian() * 0.1D;
             double d2 = worldIn.rand.nextGaussian() * 0.1D;
-            Minecraft.getMinecraft().effectRenderer.addEffect(new ParticleGrowth(worldIn, pos.x + d0 + 0.5D, pos.y + 0.5D, pos.z + d2 + 0.5D));
+            CuisineParticles.spawnGrowth(worldIn, pos.x + d0 + 0.5D, pos.y + 0.5D, pos.z + d2 + 0.5D);
         }
     }
 
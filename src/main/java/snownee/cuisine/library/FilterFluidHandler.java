@@ -15,6 +15,15 @@ public class FilterFluidHandler implements IFluidHandler
 {
     private final IFluidHandler parent;
     private final Predicate<FluidStack> validator;
+    /**
+     * The array last returned by parent, used to tell whether {@link #cachedProperties} is
+     * still up-to-date. Most implementations, including {@link net.minecraftforge.fluids.FluidTank},
+     * return the same array of live views on every call.
+     */
+    @Nullable
+    private IFluidTankProperties[] lastParentProperties;
+    @Nullable
+    private IFluidTankProperties[] cachedProperties;
 
     public FilterFluidHandler(IFluidHandler parent, Predicate<FluidStack> validator)
     {
@@ -25,12 +34,19 @@ public class FilterFluidHandler implements IFluidHandler
     @Override
     public IFluidTankProperties[] getTankProperties()
     {
-        IFluidTankProperties properties[] = parent.getTankProperties();
-        for (int i = 0; i < properties.length; i++)
+        IFluidTankProperties[] parentProperties = parent.getTankProperties();
+        if (parentProperties != lastParentProperties || cachedProperties == null)
         {
-            properties[i] = new FilterFluidTankProperties(properties[i]);
+            // Never write into the array from parent, it may be the cached one
+            IFluidTankProperties[] properties = new IFluidTankProperties[parentProperties.length];
+            for (int i = 0; i < properties.length; i++)
+            {
+                properties[i] = new FilterFluidTankProperties(parentProperties[i]);
+            }
+            lastParentProperties = parentProperties;
+            cachedProperties = properties;
         }
-        return properties;
+        return cachedProperties;
     }
 
     @Override
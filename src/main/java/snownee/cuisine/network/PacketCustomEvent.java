@@ -14,7 +14,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 import snownee.cuisine.Cuisine;
-import snownee.cuisine.client.particle.ParticleGrowth;
+import snownee.cuisine.client.particle.CuisineParticles;
 import snownee.cuisine.items.ItemLifeEssence;
 import snownee.cuisine.tiles.TileJar;
 import snownee.cuisine.tiles.TileWok;
@@ -92,6 +92,10 @@ public class PacketCustomEvent implements PacketMod
         case 2:
         {
             World world = Minecraft.getMinecraft().world;
+            if (CuisineParticles.allowance(posX + 0.5D, posY + 0.25D, posZ + 0.5D, 1) == 0)
+            {
+                break;
+            }
             double x = posX + 0.5D + world.rand.nextGaussian() * 0.2D;
             double z = posZ + 0.5D + world.rand.nextGaussian() * 0.2D;
             world.spawnParticle(EnumParticleTypes.BLOCK_CRACK, x, posY + 0.25D, z, 0.0D, 0.0D, 0.0D, Block.getStateId(world.getBlockState(new BlockPos(posX, posY, posZ))));
@@ -107,7 +111,8 @@ public class PacketCustomEvent implements PacketMod
                 return;
             }
             ++((TileWok) te).actionCycle;
-            for (int k = 0; k < 4; ++k)
+            int count = CuisineParticles.allowance(posX + 0.5D, posY + 0.25D, posZ + 0.5D, 4);
+            for (int k = 0; k < count; ++k)
             {
                 double x = posX + 0.5D + world.rand.nextGaussian() * 0.2D;
                 double z = posZ + 0.5D + world.rand.nextGaussian() * 0.2D;
@@ -132,13 +137,12 @@ public class PacketCustomEvent implements PacketMod
         case 6:
         {
             WorldClient world = Minecraft.getMinecraft().world;
-            if (world.rand.nextInt(5) == 0)
+            if (world.rand.nextInt(5) == 0 && CuisineParticles.allowance(posX + 0.5D, posY, posZ + 0.5D, 1) > 0)
             {
                 double mx = world.rand.nextGaussian() * 0.05D;
                 double my = world.rand.nextGaussian() * 0.01D + 0.3D;
                 double mz = world.rand.nextGaussian() * 0.05D;
-                ParticleGrowth particle = new ParticleGrowth(world, posX + 0.5D, posY, posZ + 0.5D, mx, my, mz);
-                Minecraft.getMinecraft().effectRenderer.addEffect(particle);
+                CuisineParticles.spawnGrowth(world, posX + 0.5D, posY, posZ + 0.5D, mx, my, mz);
             }
             break;
         }
@@ -0,0 +1,54 @@
+package snownee.cuisine.network;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.entity.EntityPlayerSP;
+import net.minecraft.entity.player.EntityPlayerMP;
+import snownee.cuisine.client.particle.FlowerShowAnimation;
+import snownee.cuisine.entities.FlowerShow;
+import snownee.kiwi.network.PacketMod;
+
+public class PacketFlowerShow implements PacketMod
+{
+    private FlowerShow show;
+    /**
+     * Ticks of the show already played, when it is resumed.
+     */
+    private int elapsed;
+
+    public PacketFlowerShow()
+    {
+    }
+
+    public PacketFlowerShow(FlowerShow show, int elapsed)
+    {
+        this.show = show;
+        this.elapsed = elapsed;
+    }
+
+    @Override
+    public void writeDataTo(ByteBuf buffer)
+    {
+        show.write(buffer);
+        buffer.writeShort(elapsed);
+    }
+
+    @Override
+    public void readDataFrom(ByteBuf buffer)
+    {
+        show = FlowerShow.read(buffer);
+        elapsed = Math.max(0, buffer.readShort());
+    }
+
+    @Override
+    public void handleClient(EntityPlayerSP player)
+    {
+        FlowerShowAnimation.start(Minecraft.getMinecraft().world, show, elapsed);
+    }
+
+    @Override
+    public void handleServer(EntityPlayerMP player)
+    {
+        // No-op
+    }
+}
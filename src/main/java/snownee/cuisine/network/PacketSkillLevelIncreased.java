@@ -1,7 +1,8 @@
 package snownee.cuisine.network;
 
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import io.netty.buffer.ByteBuf;
 import net.minecraft.client.Minecraft;
@@ -58,7 +59,11 @@ public class PacketSkillLevelIncreased implements PacketMod
         if (newValue > oldValue)
         {
             player.world.playSound(player, player.posX, player.posY + player.eyeHeight, player.posZ, SoundEvents.ENTITY_PLAYER_LEVELUP, player.getSoundCategory(), 0.75F, 1);
-            Set<CulinarySkill> skills = CulinarySkillManager.getSkills().stream().filter(skill -> skill.skillPointRequirement() == skillPoint && CulinarySkillManager.getLevelRequirement(skill) > oldValue && CulinarySkillManager.getLevelRequirement(skill) <= newValue).collect(Collectors.toSet());
+            Set<CulinarySkill> skills = new LinkedHashSet<>();
+            for (List<CulinarySkill> unlocked : CulinarySkillManager.getSkillsUnlockedBetween(skillPoint, oldValue, newValue))
+            {
+                skills.addAll(unlocked);
+            }
             Minecraft.getMinecraft().getToastGui().add(new SkillToast(skillPoint, newValue, skills));
         }
     }
@@ -1,6 +1,5 @@
 package snownee.cuisine.plugins.crafttweaker;
 
-import crafttweaker.IAction;
 import crafttweaker.annotations.ZenRegister;
 import crafttweaker.api.item.IItemStack;
 import crafttweaker.api.oredict.IOreDictEntry;
@@ -52,7 +51,7 @@ public class CTAxeChopping
         CTSupport.DELAYED_ACTIONS.add(new BulkRemoval());
     }
 
-    private static final class ItemBasedAddition implements IAction
+    private static final class ItemBasedAddition implements RecipeBatch.Action
     {
         private final ItemStack input;
         private final ItemStack output;
@@ -69,6 +68,12 @@ public class CTAxeChopping
             Processing.CHOPPING.add(new Chopping(RegularItemStackInput.of(input), output));
         }
 
+        @Override
+        public void addTo(RecipeBatch batch)
+        {
+            batch.add(Processing.CHOPPING, new Chopping(RegularItemStackInput.of(input), output));
+        }
+
         @Override
         public String describe()
         {
@@ -76,7 +81,7 @@ public class CTAxeChopping
         }
     }
 
-    private static final class OreDictBasedAddition implements IAction
+    private static final class OreDictBasedAddition implements RecipeBatch.Action
     {
         private final OreDictDefinition input;
         private final ItemStack output;
@@ -93,6 +98,12 @@ public class CTAxeChopping
             Processing.CHOPPING.add(new Chopping(input, output));
         }
 
+        @Override
+        public void addTo(RecipeBatch batch)
+        {
+            batch.add(Processing.CHOPPING, new Chopping(input, output));
+        }
+
         @Override
         public String describe()
         {
@@ -100,7 +111,7 @@ public class CTAxeChopping
         }
     }
 
-    private static final class ItemBasedRemoval implements IAction
+    private static final class ItemBasedRemoval implements RecipeBatch.Action
     {
         private final ItemStack input;
 
@@ -115,6 +126,12 @@ public class CTAxeChopping
             Processing.CHOPPING.remove(new Chopping(RegularItemStackInput.of(input), ItemStack.EMPTY));
         }
 
+        @Override
+        public void addTo(RecipeBatch batch)
+        {
+            batch.remove(Processing.CHOPPING, new Chopping(RegularItemStackInput.of(input), ItemStack.EMPTY));
+        }
+
         @Override
         public String describe()
         {
@@ -122,7 +139,7 @@ public class CTAxeChopping
         }
     }
 
-    private static final class OreDictBasedRemoval implements IAction
+    private static final class OreDictBasedRemoval implements RecipeBatch.Action
     {
         private final OreDictDefinition input;
 
@@ -137,6 +154,12 @@ public class CTAxeChopping
             Processing.CHOPPING.remove(new Chopping(input, ItemStack.EMPTY));
         }
 
+        @Override
+        public void addTo(RecipeBatch batch)
+        {
+            batch.remove(Processing.CHOPPING, new Chopping(input, ItemStack.EMPTY));
+        }
+
         @Override
         public String describe()
         {
@@ -144,7 +167,7 @@ public class CTAxeChopping
         }
     }
 
-    private static final class BulkRemoval implements IAction
+    private static final class BulkRemoval implements RecipeBatch.Action
     {
 
         @Override
@@ -153,6 +176,12 @@ public class CTAxeChopping
             Processing.CHOPPING.removeAll();
         }
 
+        @Override
+        public void addTo(RecipeBatch batch)
+        {
+            batch.removeAll(Processing.CHOPPING);
+        }
+
         @Override
         public String describe()
         {
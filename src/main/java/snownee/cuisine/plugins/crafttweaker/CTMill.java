@@ -1,6 +1,5 @@
 package snownee.cuisine.plugins.crafttweaker;
 
-import crafttweaker.IAction;
 import crafttweaker.annotations.ZenRegister;
 import crafttweaker.api.item.IItemStack;
 import crafttweaker.api.liquid.ILiquidStack;
@@ -61,7 +60,7 @@ public class CTMill
         CTSupport.DELAYED_ACTIONS.add(new RemoveAll());
     }
 
-    private static final class ItemBasedAddition implements IAction
+    private static final class ItemBasedAddition implements RecipeBatch.Action
     {
 
         private final ItemStack actualInput;
@@ -83,6 +82,12 @@ public class CTMill
             Processing.MILLING.add(new Milling(actualInput, actualOutput, actualInputFluid, actualOutputFluid));
         }
 
+        @Override
+        public void addTo(RecipeBatch batch)
+        {
+            batch.add(Processing.MILLING, new Milling(actualInput, actualOutput, actualInputFluid, actualOutputFluid));
+        }
+
         @Override
         public String describe()
         {
@@ -90,7 +95,7 @@ public class CTMill
         }
     }
 
-    private static final class OreDictBasedAddition implements IAction
+    private static final class OreDictBasedAddition implements RecipeBatch.Action
     {
         private final OreDictDefinition actualInput;
         private final FluidStack actualInputFluid;
@@ -111,6 +116,12 @@ public class CTMill
             Processing.MILLING.add(new Milling(actualInput, actualOutput, actualInputFluid, actualOutputFluid));
         }
 
+        @Override
+        public void addTo(RecipeBatch batch)
+        {
+            batch.add(Processing.MILLING, new Milling(actualInput, actualOutput, actualInputFluid, actualOutputFluid));
+        }
+
         @Override
         public String describe()
         {
@@ -118,7 +129,7 @@ public class CTMill
         }
     }
 
-    private static final class ItemBasedRemoval implements IAction
+    private static final class ItemBasedRemoval implements RecipeBatch.Action
     {
         private final ItemStack actualInput;
         private final FluidStack actualInputFluid;
@@ -135,6 +146,12 @@ public class CTMill
             Processing.MILLING.remove(new Milling(actualInput, ItemStack.EMPTY, actualInputFluid, null));
         }
 
+        @Override
+        public void addTo(RecipeBatch batch)
+        {
+            batch.remove(Processing.MILLING, new Milling(actualInput, ItemStack.EMPTY, actualInputFluid, null));
+        }
+
         @Override
         public String describe()
         {
@@ -142,7 +159,7 @@ public class CTMill
         }
     }
 
-    private static class OreDictBasedRemoval implements IAction
+    private static class OreDictBasedRemoval implements RecipeBatch.Action
     {
         private final OreDictDefinition actualInput;
         private final FluidStack actualInputFluid;
@@ -159,6 +176,12 @@ public class CTMill
             Processing.MILLING.remove(new Milling(actualInput, ItemStack.EMPTY, actualInputFluid, null));
         }
 
+        @Override
+        public void addTo(RecipeBatch batch)
+        {
+            batch.remove(Processing.MILLING, new Milling(actualInput, ItemStack.EMPTY, actualInputFluid, null));
+        }
+
         @Override
         public String describe()
         {
@@ -166,7 +189,7 @@ public class CTMill
         }
     }
 
-    private static final class RemoveAll implements IAction
+    private static final class RemoveAll implements RecipeBatch.Action
     {
 
         @Override
@@ -175,6 +198,12 @@ public class CTMill
             Processing.MILLING.removeAll();
         }
 
+        @Override
+        public void addTo(RecipeBatch batch)
+        {
+            batch.removeAll(Processing.MILLING);
+        }
+
         @Override
         public String describe()
         {
@@ -4,7 +4,6 @@ import java.util.Arrays;
 
 import com.google.common.collect.ImmutableList;
 
-import crafttweaker.IAction;
 import crafttweaker.annotations.ZenRegister;
 import crafttweaker.api.item.IItemStack;
 import crafttweaker.api.minecraft.CraftTweakerMC;
@@ -40,7 +39,7 @@ public class CTMortar
         CTSupport.DELAYED_ACTIONS.add(new BulkRemoval());
     }
 
-    private static final class Addition implements IAction
+    private static final class Addition implements RecipeBatch.Action
     {
 
         final ImmutableList<ProcessingInput> inputs;
@@ -60,6 +59,12 @@ public class CTMortar
             Processing.GRINDING.add(new Grinding(inputs, output, step));
         }
 
+        @Override
+        public void addTo(RecipeBatch batch)
+        {
+            batch.add(Processing.GRINDING, new Grinding(inputs, output, step));
+        }
+
         @Override
         public String describe()
         {
@@ -67,7 +72,7 @@ public class CTMortar
         }
     }
 
-    private static final class Removal implements IAction
+    private static final class Removal implements RecipeBatch.Action
     {
         final ImmutableList<ProcessingInput> inputs;
 
@@ -82,6 +87,12 @@ public class CTMortar
             Processing.GRINDING.remove(new Grinding(inputs, ItemStack.EMPTY, 0));
         }
 
+        @Override
+        public void addTo(RecipeBatch batch)
+        {
+            batch.remove(Processing.GRINDING, new Grinding(inputs, ItemStack.EMPTY, 0));
+        }
+
         @Override
         public String describe()
         {
@@ -89,7 +100,7 @@ public class CTMortar
         }
     }
 
-    private static final class BulkRemoval implements IAction
+    private static final class BulkRemoval implements RecipeBatch.Action
     {
         @Override
         public void apply()
@@ -97,6 +108,12 @@ public class CTMortar
             Processing.GRINDING.removeAll();
         }
 
+        @Override
+        public void addTo(RecipeBatch batch)
+        {
+            batch.removeAll(Processing.GRINDING);
+        }
+
         @Override
         public String describe()
         {
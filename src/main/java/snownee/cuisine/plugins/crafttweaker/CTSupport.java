@@ -1,6 +1,7 @@
 package snownee.cuisine.plugins.crafttweaker;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import crafttweaker.CraftTweakerAPI;
 import crafttweaker.IAction;
@@ -22,10 +23,31 @@ public final class CTSupport implements IModule
     @Override
     public void postInit()
     {
-        DELAYED_ACTIONS.forEach(CraftTweakerAPI::apply);
+        toBatch(DELAYED_ACTIONS).apply();
         DELAYED_ACTIONS.clear();
     }
 
+    /**
+     * Merge recipe actions into a batch. Other actions are applied immediately.
+     */
+    private static RecipeBatch toBatch(List<IAction> actions)
+    {
+        RecipeBatch batch = new RecipeBatch();
+        for (IAction action : actions)
+        {
+            if (action instanceof RecipeBatch.Action)
+            {
+                CraftTweakerAPI.logInfo(action.describe());
+                ((RecipeBatch.Action) action).addTo(batch);
+            }
+            else
+            {
+                CraftTweakerAPI.apply(action);
+            }
+        }
+        return batch;
+    }
+
     public static OreDictDefinition fromOreEntry(IOreDictEntry entry)
     {
         return entry == null ? OreDictDefinition.EMPTY : OreDictDefinition.of(entry.getName(), entry.getAmount());
@@ -1,6 +1,5 @@
 package snownee.cuisine.plugins.crafttweaker;
 
-import crafttweaker.IAction;
 import crafttweaker.annotations.ZenRegister;
 import crafttweaker.api.item.IItemStack;
 import crafttweaker.api.liquid.ILiquidStack;
@@ -143,7 +142,7 @@ public class CTVessel
         CTSupport.DELAYED_ACTIONS.add(new RemoveAll());
     }
 
-    private static final class Addition implements IAction
+    private static final class Addition implements RecipeBatch.Action
     {
 
         private final ProcessingInput actualInput;
@@ -167,6 +166,12 @@ public class CTVessel
             Processing.VESSEL.add(new Vessel(actualInput, actualInputFluid, actualOutput, actualOutputFluid, actualExtra));
         }
 
+        @Override
+        public void addTo(RecipeBatch batch)
+        {
+            batch.add(Processing.VESSEL, new Vessel(actualInput, actualInputFluid, actualOutput, actualOutputFluid, actualExtra));
+        }
+
         @Override
         public String describe()
         {
@@ -174,7 +179,7 @@ public class CTVessel
         }
     }
 
-    private static final class Removal implements IAction
+    private static final class Removal implements RecipeBatch.Action
     {
         private final ProcessingInput actualInput;
         private final Fluid actualInputFluid;
@@ -193,6 +198,12 @@ public class CTVessel
             Processing.VESSEL.remove(new Vessel(actualInput, actualInputFluid, ItemDefinition.EMPTY, null, actualExtra));
         }
 
+        @Override
+        public void addTo(RecipeBatch batch)
+        {
+            batch.remove(Processing.VESSEL, new Vessel(actualInput, actualInputFluid, ItemDefinition.EMPTY, null, actualExtra));
+        }
+
         @Override
         public String describe()
         {
@@ -200,7 +211,7 @@ public class CTVessel
         }
     }
 
-    private static final class RemoveAll implements IAction
+    private static final class RemoveAll implements RecipeBatch.Action
     {
 
         @Override
@@ -209,6 +220,12 @@ public class CTVessel
             Processing.VESSEL.removeAll();
         }
 
+        @Override
+        public void addTo(RecipeBatch batch)
+        {
+            batch.removeAll(Processing.VESSEL);
+        }
+
         @Override
         public String describe()
         {
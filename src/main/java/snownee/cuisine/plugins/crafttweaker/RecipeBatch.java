@@ -0,0 +1,138 @@
+package snownee.cuisine.plugins.crafttweaker;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import crafttweaker.IAction;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import snownee.cuisine.api.process.CuisineProcessingRecipe;
+import snownee.cuisine.api.process.CuisineProcessingRecipeManager;
+
+/**
+ * Recipe changes queued by CraftTweaker scripts, merged per recipe manager so that each
+ * manager is updated only once, with all removals done in one pass and all additions
+ * appended together, regardless of how many actions the scripts have.
+ * <p>
+ * The result is the same as applying the actions one by one: a removal also drops the
+ * recipes added before it, and removing all recipes discards everything queued before.
+ */
+final class RecipeBatch
+{
+    private final Map<CuisineProcessingRecipeManager<?>, Changes<?>> changes = new IdentityHashMap<>();
+
+    /**
+     * An action that can be merged into a batch instead of being applied alone.
+     */
+    interface Action extends IAction
+    {
+        void addTo(RecipeBatch batch);
+    }
+
+    <R extends CuisineProcessingRecipe> void add(CuisineProcessingRecipeManager<R> manager, R recipe)
+    {
+        getChanges(manager).add(recipe);
+    }
+
+    <R extends CuisineProcessingRecipe> void remove(CuisineProcessingRecipeManager<R> manager, R recipe)
+    {
+        getChanges(manager).remove(recipe);
+    }
+
+    <R extends CuisineProcessingRecipe> void removeAll(CuisineProcessingRecipeManager<R> manager)
+    {
+        getChanges(manager).removeAll();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R extends CuisineProcessingRecipe> Changes<R> getChanges(CuisineProcessingRecipeManager<R> manager)
+    {
+        return (Changes<R>) changes.computeIfAbsent(manager, m -> new Changes<>(manager));
+    }
+
+    /**
+     * Apply the queued changes to the recipe managers.
+     */
+    void apply()
+    {
+        for (Changes<?> managerChanges : changes.values())
+        {
+            managerChanges.apply();
+        }
+    }
+
+    private static final class Changes<R extends CuisineProcessingRecipe>
+    {
+        private final CuisineProcessingRecipeManager<R> manager;
+        private boolean clear;
+        /**
+         * Recipes to remove from those the manager already has.
+         */
+        private final Set<R> removals = new HashSet<>();
+        /**
+         * Sequence number of the last removal of each recipe, to tell whether a recipe was
+         * removed after it was added.
+         */
+        private final Map<R, Integer> lastRemovals = new HashMap<>();
+        private final List<R> additions = new ArrayList<>();
+        private final IntList additionSequences = new IntArrayList();
+        private int sequence;
+
+        private Changes(CuisineProcessingRecipeManager<R> manager)
+        {
+            this.manager = manager;
+        }
+
+        private void add(R recipe)
+        {
+            additions.add(recipe);
+            additionSequences.add(++sequence);
+        }
+
+        private void remove(R recipe)
+        {
+            removals.add(recipe);
+            lastRemovals.put(recipe, ++sequence);
+        }
+
+        private void removeAll()
+        {
+            clear = true;
+            removals.clear();
+            lastRemovals.clear();
+            additions.clear();
+            additionSequences.clear();
+        }
+
+        /**
+         * @return Queued additions that are not removed afterwards
+         */
+        private List<R> getRemainingAdditions()
+        {
+            if (lastRemovals.isEmpty())
+            {
+                return additions;
+            }
+            List<R> remaining = new ArrayList<>(additions.size());
+            for (int i = 0; i < additions.size(); i++)
+            {
+                Integer removed = lastRemovals.get(additions.get(i));
+                if (removed == null || removed < additionSequences.getInt(i))
+                {
+                    remaining.add(additions.get(i));
+                }
+            }
+            return remaining;
+        }
+
+        private void apply()
+        {
+            manager.update(clear ? recipe -> true : removals::contains, getRemainingAdditions());
+        }
+    }
+}
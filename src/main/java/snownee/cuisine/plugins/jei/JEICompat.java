@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import mezz.jei.api.IModPlugin;
@@ -35,6 +36,11 @@ import snownee.kiwi.util.definition.OreDictDefinition;
 @JEIPlugin
 public class JEICompat implements IModPlugin
 {
+    /**
+     * Forms that can be cut on chopping board.
+     */
+    static final Set<Form> CHOPPED_FORMS = Collections.unmodifiableSet(EnumSet.complementOf(EnumSet.of(Form.FULL, Form.JUICE)));
+
     public static final List<ItemStack> AXES = Arrays.stream(CuisineConfig.PROGRESSION.axeList).map(id -> ItemDefinition.parse(id, false)).map(ItemDefinition::getItemStack).collect(Collectors.toList());
 
     @Override
@@ -58,19 +64,10 @@ public class JEICompat implements IModPlugin
 
         BlockChoppingBoard.getSuitableCovers().stream().map(CuisineRegistry.CHOPPING_BOARD::getItemStack).forEach(stack -> registry.addRecipeCatalyst(stack, ChoppingBoardRecipeCategory.UID));
 
+        // Recipes of knives and pastes are derived from material mappings, see MaterialRecipePlugin
+        registry.addRecipeRegistryPlugin(new MaterialRecipePlugin());
+
         List<IRecipeWrapper> recipes = new ArrayList<>();
-        CuisineInternalGateway.INSTANCE.itemToMaterialMapping.forEach((k, v) -> {
-            if (!v.getValidForms().isEmpty())
-            {
-                recipes.add(new ChoppingBoardKnifeRecipe(k, v));
-            }
-        });
-        CuisineInternalGateway.INSTANCE.oreDictToMaterialMapping.forEach((k, v) -> {
-            if (!v.getValidForms().isEmpty())
-            {
-                recipes.add(new ChoppingBoardKnifeRecipe(OreDictDefinition.of(k), v));
-            }
-        });
         if (CuisineConfig.PROGRESSION.axeChopping)
         {
             Processing.CHOPPING.preview().forEach(recipe -> recipes.add(new ChoppingBoardAxeRecipe(recipe)));
@@ -80,18 +77,6 @@ public class JEICompat implements IModPlugin
         recipes.clear();
         registry.addRecipeCatalyst(CuisineRegistry.ITEM_MORTAR.getItemStack(ItemMortar.Variants.EMPTY), MortarRecipeCategory.UID);
         Processing.GRINDING.preview().forEach(recipe -> recipes.add(new MortarGenericRecipe(recipe)));
-        CuisineInternalGateway.INSTANCE.itemToMaterialMapping.forEach((k, v) -> {
-            if (v.isValidForm(Form.PASTE) && Processing.GRINDING.findRecipe(k.getItemStack()) == null)
-            {
-                recipes.add(new MortarPasteRecipe(k, v));
-            }
-        });
-        CuisineInternalGateway.INSTANCE.oreDictToMaterialMapping.forEach((k, v) -> {
-            if (v.isValidForm(Form.PASTE) && Processing.GRINDING.findRecipe(OreDictDefinition.of(k).getItemStack()) != null)
-            {
-                recipes.add(new MortarPasteRecipe(OreDictDefinition.of(k), v));
-            }
-        });
         registry.addRecipes(recipes, MortarRecipeCategory.UID);
 
         registry.addRecipeCatalyst(new ItemStack(CuisineRegistry.MILL), MillRecipeCategory.UID);
@@ -114,8 +99,6 @@ public class JEICompat implements IModPlugin
 
     static List<ItemStack> getAllPossibleFormsExceptFullAndJuice(Material material)
     {
-        EnumSet<Form> forms = EnumSet.complementOf(EnumSet.of(Form.FULL, Form.JUICE));
-        forms.retainAll(material.getValidForms());
-        return forms.stream().map(form -> ItemIngredient.make(material, form)).collect(Collectors.toList());
+        return CHOPPED_FORMS.stream().filter(material::isValidForm).map(form -> ItemIngredient.make(material, form)).collect(Collectors.toList());
     }
 }
@@ -0,0 +1,217 @@
+package snownee.cuisine.plugins.jei;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import mezz.jei.api.recipe.IFocus;
+import mezz.jei.api.recipe.IRecipeCategory;
+import mezz.jei.api.recipe.IRecipeRegistryPlugin;
+import mezz.jei.api.recipe.IRecipeWrapper;
+import net.minecraft.item.ItemStack;
+import snownee.cuisine.CuisineRegistry;
+import snownee.cuisine.api.Form;
+import snownee.cuisine.api.Ingredient;
+import snownee.cuisine.api.Material;
+import snownee.cuisine.api.process.Processing;
+import snownee.cuisine.internal.CuisineInternalGateway;
+import snownee.cuisine.internal.CuisinePersistenceCenter;
+import snownee.kiwi.crafting.input.ProcessingInput;
+import snownee.kiwi.util.OreUtil;
+import snownee.kiwi.util.definition.ItemDefinition;
+import snownee.kiwi.util.definition.OreDictDefinition;
+
+/**
+ * Provides the recipes derived from material mappings, i.e. cutting materials with a knife
+ * on chopping board and grinding materials into paste in mortar. There is one recipe for
+ * each item or ore dictionary entry known as a material, so instead of building all of them
+ * when JEI starts, they are looked up in the mappings when JEI asks for an item, and kept
+ * for later lookups.
+ */
+class MaterialRecipePlugin implements IRecipeRegistryPlugin
+{
+    /**
+     * Recipe wrappers keyed by entry of material mappings, i.e. {@link ItemDefinition} or
+     * name of ore dictionary entry.
+     */
+    private final Map<Object, IRecipeWrapper> knifeRecipes = new HashMap<>();
+    /**
+     * Same as {@link #knifeRecipes}. A key mapped to null has no paste recipe, so that the
+     * grinding recipes are searched only once for each key.
+     */
+    private final Map<Object, IRecipeWrapper> pasteRecipes = new HashMap<>();
+    /**
+     * Entries of material mappings grouped by material, built on the first lookup by output.
+     */
+    @Nullable
+    private Map<Material, List<Object>> keysByMaterial;
+
+    @Override
+    public <V> List<String> getRecipeCategoryUids(IFocus<V> focus)
+    {
+        if (!(focus.getValue() instanceof ItemStack))
+        {
+            return Collections.emptyList();
+        }
+        ItemStack stack = (ItemStack) focus.getValue();
+        List<String> uids = new ArrayList<>(2);
+        if (!getRecipes(ChoppingBoardRecipeCategory.UID, stack, focus.getMode()).isEmpty())
+        {
+            uids.add(ChoppingBoardRecipeCategory.UID);
+        }
+        if (!getRecipes(MortarRecipeCategory.UID, stack, focus.getMode()).isEmpty())
+        {
+            uids.add(MortarRecipeCategory.UID);
+        }
+        return uids;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends IRecipeWrapper, V> List<T> getRecipeWrappers(IRecipeCategory<T> recipeCategory, IFocus<V> focus)
+    {
+        if (!(focus.getValue() instanceof ItemStack))
+        {
+            return Collections.emptyList();
+        }
+        return (List<T>) getRecipes(recipeCategory.getUid(), (ItemStack) focus.getValue(), focus.getMode());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends IRecipeWrapper> List<T> getRecipeWrappers(IRecipeCategory<T> recipeCategory)
+    {
+        return (List<T>) getAllRecipes(recipeCategory.getUid());
+    }
+
+    private List<IRecipeWrapper> getRecipes(String uid, ItemStack stack, IFocus.Mode mode)
+    {
+        if (!ChoppingBoardRecipeCategory.UID.equals(uid) && !MortarRecipeCategory.UID.equals(uid))
+        {
+            return Collections.emptyList();
+        }
+        if (mode == IFocus.Mode.INPUT)
+        {
+            if (stack.getItem() == CuisineRegistry.KITCHEN_KNIFE && ChoppingBoardRecipeCategory.UID.equals(uid))
+            {
+                return getAllRecipes(uid);
+            }
+            List<IRecipeWrapper> recipes = new ArrayList<>(1);
+            Material material = CuisineInternalGateway.INSTANCE.itemToMaterialMapping.get(ItemDefinition.of(stack));
+            if (material != null)
+            {
+                addRecipe(recipes, uid, ItemDefinition.of(stack), material);
+            }
+            for (String entry : OreUtil.getOreNames(stack))
+            {
+                if ((material = CuisineInternalGateway.INSTANCE.oreDictToMaterialMapping.get(entry)) != null)
+                {
+                    addRecipe(recipes, uid, entry, material);
+                }
+            }
+            return recipes;
+        }
+        else
+        {
+            if (stack.getItem() != CuisineRegistry.INGREDIENT || !stack.hasTagCompound())
+            {
+                return Collections.emptyList();
+            }
+            Ingredient ingredient = CuisinePersistenceCenter.deserializeIngredient(stack.getTagCompound());
+            if (ingredient == null)
+            {
+                return Collections.emptyList();
+            }
+            if (ChoppingBoardRecipeCategory.UID.equals(uid) ? !JEICompat.CHOPPED_FORMS.contains(ingredient.getForm()) : ingredient.getForm() != Form.PASTE)
+            {
+                return Collections.emptyList();
+            }
+            List<IRecipeWrapper> recipes = new ArrayList<>(1);
+            for (Object key : getKeysByMaterial().getOrDefault(ingredient.getMaterial(), Collections.emptyList()))
+            {
+                addRecipe(recipes, uid, key, ingredient.getMaterial());
+            }
+            return recipes;
+        }
+    }
+
+    private List<IRecipeWrapper> getAllRecipes(String uid)
+    {
+        if (!ChoppingBoardRecipeCategory.UID.equals(uid) && !MortarRecipeCategory.UID.equals(uid))
+        {
+            return Collections.emptyList();
+        }
+        List<IRecipeWrapper> recipes = new ArrayList<>();
+        CuisineInternalGateway.INSTANCE.itemToMaterialMapping.forEach((k, v) -> addRecipe(recipes, uid, k, v));
+        CuisineInternalGateway.INSTANCE.oreDictToMaterialMapping.forEach((k, v) -> addRecipe(recipes, uid, k, v));
+        return recipes;
+    }
+
+    private void addRecipe(List<IRecipeWrapper> recipes, String uid, Object key, Material material)
+    {
+        IRecipeWrapper recipe = ChoppingBoardRecipeCategory.UID.equals(uid) ? getKnifeRecipe(key, material) : getPasteRecipe(key, material);
+        if (recipe != null)
+        {
+            recipes.add(recipe);
+        }
+    }
+
+    @Nullable
+    private IRecipeWrapper getKnifeRecipe(Object key, Material material)
+    {
+        if (material.getValidForms().isEmpty())
+        {
+            return null;
+        }
+        return knifeRecipes.computeIfAbsent(key, k -> new ChoppingBoardKnifeRecipe(toInput(k), material));
+    }
+
+    @Nullable
+    private IRecipeWrapper getPasteRecipe(Object key, Material material)
+    {
+        if (!material.isValidForm(Form.PASTE))
+        {
+            return null;
+        }
+        if (pasteRecipes.containsKey(key))
+        {
+            return pasteRecipes.get(key);
+        }
+        // Materials with their own grinding recipes are shown by MortarGenericRecipe instead
+        IRecipeWrapper recipe = null;
+        if (key instanceof String)
+        {
+            OreDictDefinition input = OreDictDefinition.of((String) key);
+            if (Processing.GRINDING.findAllPossibleRecipes(input.getItemStack()).isEmpty())
+            {
+                recipe = new MortarPasteRecipe(input, material);
+            }
+        }
+        else if (Processing.GRINDING.findAllPossibleRecipes(((ItemDefinition) key).getItemStack()).isEmpty())
+        {
+            recipe = new MortarPasteRecipe((ItemDefinition) key, material);
+        }
+        pasteRecipes.put(key, recipe);
+        return recipe;
+    }
+
+    private Map<Material, List<Object>> getKeysByMaterial()
+    {
+        if (keysByMaterial == null)
+        {
+            keysByMaterial = new HashMap<>();
+            CuisineInternalGateway.INSTANCE.itemToMaterialMapping.forEach((k, v) -> keysByMaterial.computeIfAbsent(v, m -> new ArrayList<>(1)).add(k));
+            CuisineInternalGateway.INSTANCE.oreDictToMaterialMapping.forEach((k, v) -> keysByMaterial.computeIfAbsent(v, m -> new ArrayList<>(1)).add(k));
+        }
+        return keysByMaterial;
+    }
+
+    private static ProcessingInput toInput(Object key)
+    {
+        return key instanceof String ? OreDictDefinition.of((String) key) : (ItemDefinition) key;
+    }
+}
@@ -1,15 +1,8 @@
 package snownee.cuisine.plugins.nutrition;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
 import ca.wescook.nutrition.capabilities.INutrientManager;
 import ca.wescook.nutrition.nutrients.Nutrient;
 import ca.wescook.nutrition.nutrients.NutrientList;
-import it.unimi.dsi.fastutil.objects.Object2DoubleArrayMap;
-import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
 import net.minecraft.entity.Entity;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.common.MinecraftForge;
@@ -34,7 +27,11 @@ import snownee.kiwi.KiwiModule;
 public class NutritionCompat implements IModule
 {
     private static Capability<INutrientManager> NUTRITION_CAPABILITY;
-    private static final Map<MaterialCategory, Nutrient> materialCategoryToNutrient = new HashMap<>();
+    /**
+     * Nutrient of each material category, indexed by {@link MaterialCategory#ordinal()}.
+     */
+    private static final Nutrient[] materialCategoryToNutrient = new Nutrient[MaterialCategory.values().length];
+    private static boolean dataReady;
 
     static void injectCap(Capability<INutrientManager> capability)
     {
@@ -49,41 +46,57 @@ public class NutritionCompat implements IModule
 
     private void refreshData()
     {
-        if (materialCategoryToNutrient.isEmpty())
+        if (!dataReady)
         {
             for (Nutrient nutrient : NutrientList.get())
             {
                 switch (nutrient.name)
                 {
                 case "fruit":
-                    materialCategoryToNutrient.put(MaterialCategory.FRUIT, nutrient);
+                    map(MaterialCategory.FRUIT, nutrient);
                     break;
                 case "grain":
-                    materialCategoryToNutrient.put(MaterialCategory.GRAIN, nutrient);
+                    map(MaterialCategory.GRAIN, nutrient);
                     break;
                 case "vegetable":
-                    materialCategoryToNutrient.put(MaterialCategory.VEGETABLES, nutrient);
+                    map(MaterialCategory.VEGETABLES, nutrient);
                     break;
                 case "protein":
-                    materialCategoryToNutrient.put(MaterialCategory.FISH, nutrient);
-                    materialCategoryToNutrient.put(MaterialCategory.SEAFOOD, nutrient);
-                    materialCategoryToNutrient.put(MaterialCategory.MEAT, nutrient);
-                    materialCategoryToNutrient.put(MaterialCategory.NUT, nutrient);
-                    materialCategoryToNutrient.put(MaterialCategory.PROTEIN, nutrient);
+                    map(MaterialCategory.FISH, nutrient);
+                    map(MaterialCategory.SEAFOOD, nutrient);
+                    map(MaterialCategory.MEAT, nutrient);
+                    map(MaterialCategory.NUT, nutrient);
+                    map(MaterialCategory.PROTEIN, nutrient);
                     break;
                 }
             }
+            // Nutrition may not have loaded its list yet, so try again next time until it has
+            dataReady = anyMapped();
+        }
+    }
+
+    private static boolean anyMapped()
+    {
+        for (Nutrient nutrient : materialCategoryToNutrient)
+        {
+            if (nutrient != null)
+            {
+                return true;
+            }
         }
+        return false;
+    }
+
+    private static void map(MaterialCategory category, Nutrient nutrient)
+    {
+        materialCategoryToNutrient[category.ordinal()] = nutrient;
     }
 
     @SubscribeEvent(priority = EventPriority.HIGH)
     public void onItemUseFinish(LivingEntityUseItemEvent.Finish event)
     {
         Entity entity = event.getEntity();
-        if (materialCategoryToNutrient.isEmpty())
-        {
-            refreshData();
-        }
+        refreshData();
         INutrientManager manager = entity.getCapability(NUTRITION_CAPABILITY, null);
         if (manager == null)
         {
@@ -92,11 +105,15 @@ public class NutritionCompat implements IModule
         ItemStack stack = event.getItem();
         if (stack.getItem() == CuisineRegistry.INGREDIENT || stack.getItem() instanceof ItemAbstractComposite) // TODO (Snownee): code reuse
         {
-            List<Ingredient> ingredients;
+            double[] levels;
             if (stack.getItem() == CuisineRegistry.INGREDIENT)
             {
-                ingredients = Collections
-                        .singletonList(CuisinePersistenceCenter.deserializeIngredient(stack.getTagCompound()));
+                Ingredient ingredient = CuisinePersistenceCenter.deserializeIngredient(stack.getTagCompound());
+                levels = new double[materialCategoryToNutrient.length];
+                for (MaterialCategory category : ingredient.getMaterial().getCategories())
+                {
+                    levels[category.ordinal()] = ingredient.getSize();
+                }
             }
             else
             {
@@ -106,26 +123,21 @@ public class NutritionCompat implements IModule
                 {
                     return;
                 }
-                ingredients = composite.getIngredients();
+                levels = composite.getCategoryLevels();
             }
-            Object2DoubleMap<MaterialCategory> map = new Object2DoubleArrayMap<>();
-            for (Ingredient ingredient : ingredients)
+            for (int i = 0; i < levels.length; i++)
             {
-                for (MaterialCategory category : ingredient.getMaterial().getCategories())
+                if (levels[i] == 0)
                 {
-                    map.put(category, map.getOrDefault(category, 0D) + ingredient.getSize());
+                    continue;
                 }
-            }
-            for (Object2DoubleMap.Entry<MaterialCategory> entry : map.object2DoubleEntrySet())
-            {
-                if (entry.getKey() == MaterialCategory.SUPERNATURAL)
+                if (i == MaterialCategory.SUPERNATURAL.ordinal())
                 {
-                    manager.add(NutrientList.get(), (float) (entry.getDoubleValue() * 0.1F));
+                    manager.add(NutrientList.get(), (float) (levels[i] * 0.1F));
                 }
-                else if (materialCategoryToNutrient.containsKey(entry.getKey()))
+                else if (materialCategoryToNutrient[i] != null)
                 {
-                    manager.add(materialCategoryToNutrient.get(entry.getKey()),
-                            (float) (entry.getDoubleValue() * 0.5F));
+                    manager.add(materialCategoryToNutrient[i], (float) (levels[i] * 0.5F));
                 }
             }
         }
@@ -22,6 +22,7 @@ import snownee.cuisine.client.gui.CuisineGUI;
 import snownee.cuisine.client.gui.GuiManual;
 import snownee.cuisine.client.gui.GuiNameFood;
 import snownee.cuisine.client.particle.CuisineParticles;
+import snownee.cuisine.client.particle.FlowerShowAnimation;
 import snownee.cuisine.client.renderer.CuisineTEISR;
 import snownee.cuisine.tiles.TileWok;
 
@@ -36,6 +37,7 @@ public class ClientProxy extends CommonProxy
         // if (!CuisineConfig.GENERAL.disableEssence)
         // {
         MinecraftForge.EVENT_BUS.register(new CuisineParticles());
+        MinecraftForge.EVENT_BUS.register(new FlowerShowAnimation());
         // }
         OBJLoader.INSTANCE.addDomain(Cuisine.MODID);
     }
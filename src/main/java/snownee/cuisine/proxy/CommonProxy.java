@@ -36,11 +36,13 @@ import snownee.cuisine.items.BehaviorWokInteraction;
 import snownee.cuisine.items.BehaviourArmDispense;
 import snownee.cuisine.items.ItemCrops;
 import snownee.cuisine.network.PacketCustomEvent;
+import snownee.cuisine.network.PacketFlowerShow;
 import snownee.cuisine.network.PacketNameFood;
 import snownee.cuisine.network.PacketSkillLevelIncreased;
 import snownee.cuisine.tiles.TileWok;
 import snownee.cuisine.world.gen.WorldGenBamboo;
 import snownee.cuisine.world.gen.WorldGenGarden;
+import snownee.cuisine.world.gen.WorldGenUtil;
 import snownee.kiwi.network.NetworkChannel;
 import tschipp.carryon.common.handler.ListHandler;
 
@@ -77,6 +79,7 @@ public class CommonProxy implements IGuiHandler
         NetworkChannel.INSTANCE.register(PacketCustomEvent.class);
         NetworkChannel.INSTANCE.register(PacketSkillLevelIncreased.class);
         NetworkChannel.INSTANCE.register(PacketNameFood.class);
+        NetworkChannel.INSTANCE.register(PacketFlowerShow.class);
         MinecraftForge.addGrassSeed(CuisineRegistry.CROPS.getItemStack(ItemCrops.Variants.RICE), 5);
         MinecraftForge.addGrassSeed(CuisineRegistry.CROPS.getItemStack(ItemCrops.Variants.SESAME), 5);
         MinecraftForge.addGrassSeed(CuisineRegistry.CROPS.getItemStack(ItemCrops.Variants.SOYBEAN), 5);
@@ -86,6 +89,10 @@ public class CommonProxy implements IGuiHandler
             MinecraftForge.TERRAIN_GEN_BUS.register(new WorldGenGarden());
         }
         MinecraftForge.TERRAIN_GEN_BUS.register(new WorldGenBamboo());
+        if (CuisineConfig.GENERAL.worldGenDebug)
+        {
+            MinecraftForge.EVENT_BUS.register(new WorldGenUtil.DebugListener());
+        }
     }
 
     @OverridingMethodsMustInvokeSuper
@@ -12,6 +12,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.fml.common.network.ByteBufUtils;
 import snownee.cuisine.CuisineRegistry;
 import snownee.cuisine.api.CulinaryHub;
+import snownee.cuisine.client.particle.CuisineParticles;
 import snownee.kiwi.network.PacketMod;
 
 public class PacketIncrementalWokUpdate implements PacketMod
@@ -64,8 +65,9 @@ public class PacketIncrementalWokUpdate implements PacketMod
         {
             if (diff.getItem() == CuisineRegistry.INGREDIENT || CulinaryHub.API_INSTANCE.isKnownMaterial(diff))
             {
-                ((TileWok) tile).ingredientsForRendering.add(diff);
-                for (int k = 0; k < 4; ++k)
+                ((TileWok) tile).addRenderingIngredient(diff);
+                int count = CuisineParticles.allowance(pos.getX() + 0.5D, pos.getY() + 0.25D, pos.getZ() + 0.5D, 4);
+                for (int k = 0; k < count; ++k)
                 {
                     double x = tile.getPos().getX() + 0.5D + tile.getWorld().rand.nextGaussian() * 0.2D;
                     double z = tile.getPos().getZ() + tile.getWorld().rand.nextGaussian() * 0.2D;
@@ -75,7 +77,7 @@ public class PacketIncrementalWokUpdate implements PacketMod
             }
             else // When it's empty or it's bad packet
             {
-                ((TileWok) tile).ingredientsForRendering.clear();
+                ((TileWok) tile).clearRenderingIngredients();
             }
         }
     }
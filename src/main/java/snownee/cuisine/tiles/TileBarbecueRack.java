@@ -1,5 +1,8 @@
 package snownee.cuisine.tiles;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import javax.annotation.Nonnull;
 
 import net.minecraft.block.state.IBlockState;
@@ -13,10 +16,22 @@ import net.minecraft.world.World;
 import net.minecraftforge.common.util.Constants;
 import snownee.cuisine.CuisineRegistry;
 import snownee.cuisine.blocks.BlockFirePit;
+import snownee.kiwi.util.definition.ItemDefinition;
 
 public class TileBarbecueRack extends TileInventoryBase implements ITickable
 {
+    /**
+     * Cache of smelting results looked up by barbecue racks, keyed by item and metadata. Items
+     * that cannot be smelted are mapped to {@link ItemStack#EMPTY}. Shared by both logical sides.
+     * @see #getSmeltingResult(ItemStack)
+     */
+    private static final Map<ItemDefinition, ItemStack> SMELTING_RESULTS = new ConcurrentHashMap<>();
+
     private int[] burnTime = new int[3];
+    /**
+     * Whether all slots are empty, in which case there is nothing to tick.
+     */
+    private boolean idle = true;
 
     public TileBarbecueRack()
     {
@@ -26,13 +41,36 @@ public class TileBarbecueRack extends TileInventoryBase implements ITickable
     @Override
     public boolean isItemValidForSlot(int index, ItemStack stack)
     {
-        return FurnaceRecipes.instance().getSmeltingResult(stack).getItem() instanceof ItemFood;
+        return getSmeltingResult(stack).getItem() instanceof ItemFood;
+    }
+
+    /**
+     * Look up the smelting result of given item. {@link FurnaceRecipes#getSmeltingResult(ItemStack)}
+     * iterates through the whole smelting list, so results are cached here.
+     * @param stack the item to smelt
+     * @return the cached smelting result, which must not be modified; or {@link ItemStack#EMPTY}
+     */
+    private static ItemStack getSmeltingResult(ItemStack stack)
+    {
+        if (stack.isEmpty())
+        {
+            return ItemStack.EMPTY;
+        }
+        return SMELTING_RESULTS.computeIfAbsent(ItemDefinition.of(stack), k -> FurnaceRecipes.instance().getSmeltingResult(k.getItemStack()));
+    }
+
+    /**
+     * Drop all cached smelting results, so that changes to smelting recipes will be picked up.
+     */
+    public static void invalidateSmeltingCache()
+    {
+        SMELTING_RESULTS.clear();
     }
 
     @Override
     public void update()
     {
-        if (world.isRemote)
+        if (world.isRemote || idle)
         {
             return;
         }
@@ -42,7 +80,7 @@ public class TileBarbecueRack extends TileInventoryBase implements ITickable
             if (!stack.isEmpty() && ++burnTime[i] == 400)
             {
                 burnTime[i] = 0;
-                ItemStack result = FurnaceRecipes.instance().getSmeltingResult(stack);
+                ItemStack result = getSmeltingResult(stack);
                 if (!result.isEmpty())
                 {
                     stacks.setStackInSlot(i, result.copy());
@@ -76,6 +114,7 @@ public class TileBarbecueRack extends TileInventoryBase implements ITickable
                 this.burnTime = burnTime;
             }
         }
+        updateIdle();
     }
 
     @Nonnull
@@ -117,6 +156,26 @@ public class TileBarbecueRack extends TileInventoryBase implements ITickable
                 burnTime[i] = 0;
             }
         }
+        updateIdle();
         refresh();
     }
+
+    private void updateIdle()
+    {
+        for (int i = 0; i < 3; ++i)
+        {
+            if (!stacks.getStackInSlot(i).isEmpty())
+            {
+                idle = false;
+                return;
+            }
+        }
+        idle = true;
+    }
+
+    @Override
+    public boolean hasFastRenderer()
+    {
+        return true;
+    }
 }
@@ -1,5 +1,7 @@
 package snownee.cuisine.tiles;
 
+import java.util.Random;
+
 import javax.annotation.Nonnull;
 
 import net.minecraft.nbt.NBTTagCompound;
@@ -13,6 +15,21 @@ import net.minecraft.tileentity.TileEntity;
  */
 abstract class TileBase extends TileEntity
 {
+    private transient Random random;
+
+    /**
+     * @return Random source of this tile, seeded from the world seed and its position, so
+     *         that what it does is reproducible and does not contend with other tiles
+     */
+    protected Random getRandom()
+    {
+        if (this.random == null)
+        {
+            this.random = new Random(this.world.getSeed() ^ this.pos.toLong());
+        }
+        return this.random;
+    }
+
     @Override
     public final SPacketUpdateTileEntity getUpdatePacket()
     {
@@ -254,12 +254,12 @@ public class TileChoppingBoard extends TileInventoryBase
             {
                 ++actions[i];
             }
-            if (playerIn instanceof EntityPlayerMP && actions[i] < 10 && getWorld().rand.nextInt(5) == 0)
+            if (playerIn instanceof EntityPlayerMP && actions[i] < 10 && getRandom().nextInt(5) == 0)
             {
                 SkillUtil.increasePoint((EntityPlayerMP) playerIn, CulinarySkillPoint.PROFICIENCY, 1);
             }
             boolean fewerLosses = playerIn instanceof EntityPlayerMP && SkillUtil.hasPlayerLearnedSkill((EntityPlayerMP) playerIn, CulinaryHub.CommonSkills.FEWER_LOSSES);
-            stacks.setStackInSlot(0, craftMaterial(stack, processingIngredient, actions, fewerLosses, world.rand));
+            stacks.setStackInSlot(0, craftMaterial(stack, processingIngredient, actions, fewerLosses, getRandom()));
         }
         else if (isAxe)
         {
@@ -347,4 +347,10 @@ public class TileChoppingBoard extends TileInventoryBase
             refresh();
         }
     }
+
+    @Override
+    public boolean hasFastRenderer()
+    {
+        return true;
+    }
 }
@@ -17,6 +17,7 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import snownee.cuisine.api.process.Processing;
 import snownee.cuisine.api.process.Vessel;
+import snownee.cuisine.client.particle.CuisineParticles;
 import snownee.cuisine.network.PacketCustomEvent;
 import snownee.kiwi.network.NetworkChannel;
 import snownee.kiwi.util.InventoryUtil;
@@ -49,7 +50,7 @@ public class TileJar extends TileInventoryBase implements ITickable
 
     private Object[][] populateInputs()
     {
-        Object[][] inputs = new Object[stacks.getSlots()][this.stacks.getSlots() + 1];
+        Object[][] inputs = new Object[stacks.getSlots()][];
         for (int i = 0; i < stacks.getSlots(); i++)
         {
             inputs[i] = populateInputs(i);
@@ -163,7 +164,7 @@ public class TileJar extends TileInventoryBase implements ITickable
         }
         else if (isWorking)
         {
-            if (--processTime > 0 && processTime % 10 == 0)
+            if (--processTime > 0 && processTime % 10 == 0 && CuisineParticles.allowance(pos.getX() + 0.5D, pos.getY() + 0.12D, pos.getZ() + 0.5D, 1) > 0)
             {
                 double y = pos.getY() + 0.12D;
                 float f = (float) (processTime / (double) TOTAL_TICK * Math.PI * 2);
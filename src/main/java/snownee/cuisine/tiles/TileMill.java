@@ -1,8 +1,6 @@
 package snownee.cuisine.tiles;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.EnumSet;
+import java.util.Arrays;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -19,6 +17,7 @@ import net.minecraft.tileentity.TileEntityDispenser;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.ITickable;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.client.model.animation.Animation;
 import net.minecraftforge.common.animation.TimeValues;
 import net.minecraftforge.common.capabilities.Capability;
@@ -54,6 +53,10 @@ public class TileMill extends TileBase implements ITickable
      * Location of definition JSON file of animation state machine used by TileMill.
      */
     private static final ResourceLocation STATE_MACHINE_JSON = new ResourceLocation(Cuisine.MODID, "asms/mill.json");
+    /**
+     * Sides that TileMill will try to distribute its output to.
+     */
+    private static final EnumFacing[] OUTPUT_SIDES = { EnumFacing.DOWN, EnumFacing.NORTH, EnumFacing.SOUTH, EnumFacing.WEST, EnumFacing.EAST };
 
     private final IAnimationStateMachine stateMachine;
     private TimeValues.VariableValue progressValue = new TimeValues.VariableValue(0F);
@@ -68,8 +71,41 @@ public class TileMill extends TileBase implements ITickable
     private int tick = 0;
 
     private SingleSlotItemHandler inputBuffer = new SingleSlotItemHandler();
-    private FluidTank fluidInput = new FluidTank(Fluid.BUCKET_VOLUME);
-    private FluidTank fluidOutput = new FluidTank(Fluid.BUCKET_VOLUME);
+    private FluidTank fluidInput = new FluidTank(Fluid.BUCKET_VOLUME)
+    {
+        @Override
+        protected void onContentsChanged()
+        {
+            fluidHandler.invalidateTankProperties();
+        }
+    };
+    private FluidTank fluidOutput = new FluidTank(Fluid.BUCKET_VOLUME)
+    {
+        @Override
+        protected void onContentsChanged()
+        {
+            fluidHandler.invalidateTankProperties();
+        }
+    };
+
+    /**
+     * Capability wrappers exposed to automation. They are created once since pipes and hoppers
+     * query them on every tick.
+     */
+    private final IItemHandler itemHandler = new FilterItemHandler(this.inputBuffer, TileMill::isItemValid);
+    /**
+     * Cached neighbor inventories used for output distribution, indexed by {@link #OUTPUT_SIDES}.
+     * @see #onNeighborChange(BlockPos)
+     */
+    private final TileEntity[] neighbors = new TileEntity[OUTPUT_SIDES.length];
+    private final IItemHandler[] neighborHandlers = new IItemHandler[OUTPUT_SIDES.length];
+    private final boolean[] neighborsResolved = new boolean[OUTPUT_SIDES.length];
+    /**
+     * The slot of each neighbor inventory that accepted output last time.
+     */
+    private final int[] lastAcceptedSlots = new int[OUTPUT_SIDES.length];
+
+    private final MillFluidHandler fluidHandler = new MillFluidHandler(new FilterFluidHandler(this.fluidInput, Milling::isKnownMillingInput), this.fluidOutput);
 
     public TileMill()
     {
@@ -141,46 +177,161 @@ public class TileMill extends TileBase implements ITickable
                 return;
             }
 
-            this.inputBuffer.getRawContent().shrink(recipe.getInput().count());
-            this.fluidInput.drain(recipe.getInputFluid(), true);
+            int batches = this.getBatchCount(recipe);
+            this.inputBuffer.getRawContent().shrink(recipe.getInput().count() * batches);
+            if (recipe.getInputFluid() != null)
+            {
+                this.fluidInput.drain(scale(recipe.getInputFluid(), batches), true);
+            }
 
             if (!recipe.getOutput().isEmpty())
             {
-                ItemStack finalOutput = recipe.getOutput().copy();
-                for (EnumFacing direction : EnumSet.complementOf(EnumSet.of(EnumFacing.UP)))
+                // Deliver all outputs of this cycle in one pass, one full stack at a time
+                int remaining = recipe.getOutput().getCount() * batches;
+                int maxStackSize = recipe.getOutput().getMaxStackSize();
+                while (remaining > 0)
                 {
-                    TileEntity target = this.world.getTileEntity(this.pos.offset(direction));
-                    if (target == null || target.getClass() == TileEntityDispenser.class)
-                    {
-                        continue; // Ignore non-exist tile entity & Dispenser // Is there a better way to do this?
-                    }
-                    IItemHandler targetInv = target.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, direction.getOpposite());
-                    if (targetInv == null)
+                    ItemStack finalOutput = recipe.getOutput().copy();
+                    finalOutput.setCount(Math.min(remaining, maxStackSize));
+                    remaining -= finalOutput.getCount();
+                    finalOutput = distributeOutput(finalOutput);
+                    if (!finalOutput.isEmpty()) // And eject the remainder to the world
                     {
-                        continue; // Ignore side that has no IItemHandler support
-                    }
-                    for (int i = 0; i < targetInv.getSlots(); i++)
-                    {
-                        finalOutput = targetInv.insertItem(i, finalOutput, false);
-                        if (finalOutput.isEmpty())
-                        {
-                            break; // Stop when all items are distributed
-                        }
-                    }
-                    if (finalOutput.isEmpty())
-                    {
-                        break; // Stop when all items are distributed
+                        StacksUtil.spawnItemStack(this.getWorld(), this.getPos(), finalOutput, true);
                     }
                 }
-                if (!finalOutput.isEmpty()) // And eject the remainder to the world
+            }
+
+            if (recipe.getOutputFluid() != null)
+            {
+                this.fluidOutput.fill(scale(recipe.getOutputFluid(), batches), true);
+            }
+        }
+    }
+
+    /**
+     * Determine how many times the given recipe can be applied in one working cycle, limited by
+     * {@link CuisineConfig.General#millBatchSize}, the input buffer, the input fluid and the
+     * free space of output tank.
+     * @param recipe the recipe that matches current content
+     * @return number of times to apply the recipe, at least 1
+     */
+    private int getBatchCount(Milling recipe)
+    {
+        int batches = Math.max(1, CuisineConfig.GENERAL.millBatchSize);
+        if (batches == 1)
+        {
+            return 1;
+        }
+        batches = Math.min(batches, this.inputBuffer.getRawContent().getCount() / Math.max(1, recipe.getInput().count()));
+        FluidStack inputFluid = recipe.getInputFluid();
+        if (inputFluid != null && inputFluid.amount > 0)
+        {
+            batches = Math.min(batches, this.fluidInput.getFluidAmount() / inputFluid.amount);
+        }
+        FluidStack outputFluid = recipe.getOutputFluid();
+        if (outputFluid != null && outputFluid.amount > 0)
+        {
+            batches = Math.min(batches, (this.fluidOutput.getCapacity() - this.fluidOutput.getFluidAmount()) / outputFluid.amount);
+        }
+        return Math.max(1, batches);
+    }
+
+    private static FluidStack scale(FluidStack fluid, int times)
+    {
+        FluidStack copy = fluid.copy();
+        copy.amount *= times;
+        return copy;
+    }
+
+    /**
+     * Try distributing the given output to the inventories around, except the top one.
+     * @param output the output to distribute; may be modified
+     * @return the remainder that cannot be inserted into any neighbor
+     */
+    private ItemStack distributeOutput(ItemStack output)
+    {
+        for (int side = 0; side < OUTPUT_SIDES.length; side++)
+        {
+            IItemHandler targetInv = getNeighborHandler(side);
+            if (targetInv == null)
+            {
+                continue; // Ignore side that has no IItemHandler support
+            }
+            int slots = targetInv.getSlots();
+            int hint = this.lastAcceptedSlots[side];
+            // Try the slot that accepted output last time first, so that we don't have to scan
+            // through every slot of a large storage
+            if (hint < slots)
+            {
+                output = targetInv.insertItem(hint, output, false);
+            }
+            for (int i = 0; i < slots && !output.isEmpty(); i++)
+            {
+                if (i == hint)
+                {
+                    continue;
+                }
+                int countBefore = output.getCount();
+                output = targetInv.insertItem(i, output, false);
+                if (output.getCount() < countBefore)
                 {
-                    StacksUtil.spawnItemStack(this.getWorld(), this.getPos(), finalOutput, true);
+                    this.lastAcceptedSlots[side] = i;
                 }
             }
+            if (output.isEmpty())
+            {
+                break; // Stop when all items are distributed
+            }
+        }
+        return output;
+    }
 
-            if (recipe.getOutputFluid() != null)
+    /**
+     * Get the item handler of neighbor on the given side, resolving it if it is not cached yet.
+     * @param side index of side in {@link #OUTPUT_SIDES}
+     * @return the item handler, or null if there is none
+     */
+    @Nullable
+    private IItemHandler getNeighborHandler(int side)
+    {
+        TileEntity target = this.neighbors[side];
+        if (target != null && !target.isInvalid())
+        {
+            return this.neighborHandlers[side];
+        }
+        if (this.neighborsResolved[side] && target == null)
+        {
+            return null;
+        }
+        EnumFacing direction = OUTPUT_SIDES[side];
+        target = this.world.getTileEntity(this.pos.offset(direction));
+        IItemHandler targetInv = null;
+        if (target != null && target.getClass() != TileEntityDispenser.class) // Ignore non-exist tile entity & Dispenser // Is there a better way to do this?
+        {
+            targetInv = target.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, direction.getOpposite());
+        }
+        this.neighbors[side] = targetInv == null ? null : target;
+        this.neighborHandlers[side] = targetInv;
+        this.neighborsResolved[side] = true;
+        this.lastAcceptedSlots[side] = 0;
+        return targetInv;
+    }
+
+    /**
+     * Drop the cached neighbor inventory at the given position, so that it will be resolved
+     * again on next output. Called when a neighbor block or tile entity changes.
+     * @param neighbor position of the changed neighbor
+     */
+    public void onNeighborChange(BlockPos neighbor)
+    {
+        for (int side = 0; side < OUTPUT_SIDES.length; side++)
+        {
+            if (this.pos.offset(OUTPUT_SIDES[side]).equals(neighbor))
             {
-                this.fluidOutput.fill(recipe.getOutputFluid().copy(), true);
+                this.neighbors[side] = null;
+                this.neighborHandlers[side] = null;
+                this.neighborsResolved[side] = false;
             }
         }
     }
@@ -248,6 +399,7 @@ public class TileMill extends TileBase implements ITickable
         this.inputBuffer.setRawContent(new ItemStack(compound.getCompoundTag("item")));
         fluidInput.readFromNBT(compound.getCompoundTag("fluidInput"));
         fluidOutput.readFromNBT(compound.getCompoundTag("fluidOutput"));
+        fluidHandler.invalidateTankProperties();
         tick = compound.getInteger("progress");
         working = tick > 0;
     }
@@ -268,7 +420,7 @@ public class TileMill extends TileBase implements ITickable
         }
         else if (capability == CapabilityItemHandler.ITEM_HANDLER_CAPABILITY)
         {
-            return CapabilityItemHandler.ITEM_HANDLER_CAPABILITY.cast(new FilterItemHandler(this.inputBuffer, TileMill::isItemValid));
+            return CapabilityItemHandler.ITEM_HANDLER_CAPABILITY.cast(this.itemHandler);
         }
         else if (capability == CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY)
         {
@@ -278,7 +430,7 @@ public class TileMill extends TileBase implements ITickable
             }
             else
             {
-                return CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY.cast(new MillFluidHandler(new FilterFluidHandler(this.fluidInput, Milling::isKnownMillingInput), this.fluidOutput));
+                return CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY.cast(this.fluidHandler);
             }
         }
         else
@@ -305,6 +457,8 @@ public class TileMill extends TileBase implements ITickable
     {
 
         private final IFluidHandler input, output;
+        @Nullable
+        private IFluidTankProperties[] properties;
 
         MillFluidHandler(IFluidHandler input, IFluidHandler output)
         {
@@ -312,16 +466,29 @@ public class TileMill extends TileBase implements ITickable
             this.output = output;
         }
 
+        /**
+         * Drop the cached tank properties so that they are rebuilt on next query.
+         */
+        void invalidateTankProperties()
+        {
+            this.properties = null;
+        }
+
         @Override
         public IFluidTankProperties[] getTankProperties()
         {
-            ArrayList<IFluidTankProperties> properties = new ArrayList<>();
-            Collections.addAll(properties, input.getTankProperties());
-            for (IFluidTankProperties outputProperties : output.getTankProperties())
+            if (this.properties == null)
             {
-                properties.add(new OutputOnlyTankProperties(outputProperties));
+                IFluidTankProperties[] inputProperties = input.getTankProperties();
+                IFluidTankProperties[] outputProperties = output.getTankProperties();
+                IFluidTankProperties[] properties = Arrays.copyOf(inputProperties, inputProperties.length + outputProperties.length);
+                for (int i = 0; i < outputProperties.length; i++)
+                {
+                    properties[inputProperties.length + i] = new OutputOnlyTankProperties(outputProperties[i]);
+                }
+                this.properties = properties;
             }
-            return properties.toArray(new IFluidTankProperties[0]);
+            return this.properties;
         }
 
         @Override
@@ -149,4 +149,10 @@ public class TileMortar extends TileInventoryBase
             world.markBlockRangeForRenderUpdate(pos, pos);
         }
     }
+
+    @Override
+    public boolean hasFastRenderer()
+    {
+        return true;
+    }
 }
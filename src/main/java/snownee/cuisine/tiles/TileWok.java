@@ -3,6 +3,7 @@ package snownee.cuisine.tiles;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -65,15 +66,20 @@ public class TileWok extends TileBase implements CookingVessel, ITickable
     public byte actionCycle = 0;
     transient List<ItemStack> ingredientsForRendering = new ArrayList<>(8);
     transient List<FluidStack> spicesForRendering = new ArrayList<>(8);
+    /**
+     * Incremented whenever {@link #ingredientsForRendering} changes, so that renderer can tell
+     * whether its cached geometry is still valid.
+     */
+    private transient int contentsVersion = 0;
 
     @Override
     public void update()
     {
         if (!world.isRemote && status == Status.WORKING)
         {
-            if (temperature < 300 && this.world.rand.nextInt(5) == 0)
+            if (temperature < 300 && this.getRandom().nextInt(5) == 0)
             {
-                this.temperature += this.world.rand.nextInt(10);
+                this.temperature += this.getRandom().nextInt(10);
             }
             if (dish != null && this.world.getWorldTime() % 20 == 0)
             {
@@ -118,6 +124,12 @@ public class TileWok extends TileBase implements CookingVessel, ITickable
         return this.oil;
     }
 
+    @Override
+    public Random getRandom()
+    {
+        return super.getRandom();
+    }
+
     public void onActivated(EntityPlayerMP playerIn, EnumHand hand, EnumFacing facing)
     {
         switch (status)
@@ -158,7 +170,7 @@ public class TileWok extends TileBase implements CookingVessel, ITickable
                 // }
                 dish.setQualityBonus(modifier);
                 dish.onBeingServed(this, playerIn);
-                dish.getOrComputeModelType();
+                dish.getOrComputeModelType(getRandom());
 
                 SkillUtil.increasePoint(playerIn, CulinarySkillPoint.EXPERTISE, (int) (dish.getFoodLevel() * dish.getSaturationModifier()));
                 SkillUtil.increasePoint(playerIn, CulinarySkillPoint.PROFICIENCY, 1);
@@ -186,7 +198,7 @@ public class TileWok extends TileBase implements CookingVessel, ITickable
                     return;
                 }
                 this.dish = dish.apply(strategy, this);
-                if (getWorld().rand.nextInt(5) == 0)
+                if (getRandom().nextInt(5) == 0)
                 {
                     SkillUtil.increasePoint(playerIn, CulinarySkillPoint.PROFICIENCY, 1);
                 }
@@ -207,7 +219,7 @@ public class TileWok extends TileBase implements CookingVessel, ITickable
 
         this.dish = null;
         this.status = Status.IDLE;
-        this.ingredientsForRendering.clear();
+        this.clearRenderingIngredients();
         this.spicesForRendering.clear();
         NetworkChannel.INSTANCE.sendToAll(new PacketIncrementalWokUpdate(this.getPos(), ItemStack.EMPTY));
 
@@ -277,7 +289,7 @@ public class TileWok extends TileBase implements CookingVessel, ITickable
 
             this.dish.addIngredient(ingredient);
             ItemStack newStack = heldThing.splitStack(1);
-            this.ingredientsForRendering.add(newStack);
+            this.addRenderingIngredient(newStack);
             NetworkChannel.INSTANCE.sendToAll(new PacketIncrementalWokUpdate(this.getPos(), newStack));
             return true;
         }
@@ -295,6 +307,26 @@ public class TileWok extends TileBase implements CookingVessel, ITickable
         return Collections.unmodifiableList(this.ingredientsForRendering);
     }
 
+    /**
+     * @return A number that changes whenever result of {@link #getWokContents()} changes
+     */
+    public int getWokContentsVersion()
+    {
+        return this.contentsVersion;
+    }
+
+    void addRenderingIngredient(ItemStack stack)
+    {
+        this.ingredientsForRendering.add(stack);
+        ++this.contentsVersion;
+    }
+
+    void clearRenderingIngredients()
+    {
+        this.ingredientsForRendering.clear();
+        ++this.contentsVersion;
+    }
+
     @Nullable
     private CookingStrategy determineCookingStrategy(ItemStack heldItem)
     {
@@ -324,7 +356,7 @@ public class TileWok extends TileBase implements CookingVessel, ITickable
         {
             if (tag instanceof NBTTagCompound)
             {
-                this.ingredientsForRendering.add(new ItemStack((NBTTagCompound) tag));
+                this.addRenderingIngredient(new ItemStack((NBTTagCompound) tag));
             }
         }
         NBTTagList spices = compound.getTagList("rendering", Constants.NBT.TAG_COMPOUND);
@@ -421,7 +453,7 @@ public class TileWok extends TileBase implements CookingVessel, ITickable
             }
             int increment = Math.max(0, initialTemp / 4);
             ingredient.setHeat(ingredient.getHeat() + increment);
-            if (ingredient.getHeat() > 250 && Math.random() < 0.01)
+            if (ingredient.getHeat() > 250 && vessel.getRandom().nextDouble() < 0.01)
             {
                 // Unconditionally remove the undercooked trait, so that
                 // we won't see both co-exist together
@@ -2,7 +2,6 @@ package snownee.cuisine.world.gen;
 
 import java.util.Random;
 
-import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
@@ -26,39 +25,42 @@ public class WorldGenBamboo
         if (worldIn.provider.getDimension() == 0 && event.getType() == Decorate.EventType.TREE)
         {
             Random rand = event.getRand();
-            BlockPos position = event.getPos().add(rand.nextInt(16) + 1, 128, rand.nextInt(16) + 1);
+            int offsetX = WorldGenUtil.AREA_OFFSET + rand.nextInt(16);
+            int offsetZ = WorldGenUtil.AREA_OFFSET + rand.nextInt(16);
+            BlockPos corner = event.getPos();
 
-            Biome biome = worldIn.getBiome(position);
+            Biome biome = worldIn.getBiome(corner.add(offsetX, 0, offsetZ));
 
             if (biome.getBaseHeight() > 0.4F || biome.isSnowyBiome() || biome.getRainfall() < 0.5F || biome instanceof BiomeOcean || biome instanceof BiomeSwamp || rand.nextDouble() < 0.97D || rand.nextDouble() > biome.getDefaultTemperature())
             {
                 return;
             }
 
-            for (IBlockState iblockstate = worldIn.getBlockState(position); iblockstate.getBlock().isAir(iblockstate, worldIn, position) || iblockstate.getBlock().isLeaves(iblockstate, worldIn, position); iblockstate = worldIn.getBlockState(position))
+            BlockPos ground = WorldGenUtil.findGround(worldIn, corner.getX() + offsetX, corner.getZ() + offsetZ, 48);
+            if (ground == null)
             {
-                if (position.getY() < 48)
-                {
-                    return;
-                }
-                position = position.down();
+                return;
             }
-            position = position.up();
+            int y = ground.getY() + 1;
 
+            WorldGenUtil.beginFeature("bamboo", corner);
             int count = 20 + rand.nextInt(10);
             WorldFeatureBamboo generator = new WorldFeatureBamboo(false);
             while (--count != 0)
             {
-                BlockPos pos = position.add(rand.nextInt(13) - 6, 3, rand.nextInt(13) - 6);
-                for (IBlockState iblockstate = worldIn.getBlockState(pos); iblockstate.getBlock().isAir(iblockstate, worldIn, pos) || iblockstate.getBlock().isLeaves(iblockstate, worldIn, pos); iblockstate = worldIn.getBlockState(pos))
+                int dx = offsetX + rand.nextInt(13) - 6;
+                int dz = offsetZ + rand.nextInt(13) - 6;
+                // Clumps near the edge are cut off rather than spilling into unpopulated chunks
+                if (!WorldGenUtil.isInArea(dx) || !WorldGenUtil.isInArea(dz))
                 {
-                    if (pos.getY() + 3 < position.getY())
-                    {
-                        break;
-                    }
-                    pos = pos.down();
+                    continue;
                 }
-                pos = pos.up();
+                ground = WorldGenUtil.findGround(worldIn, corner.getX() + dx, corner.getZ() + dz, y - 4);
+                if (ground == null || ground.getY() > y + 2)
+                {
+                    continue;
+                }
+                BlockPos pos = ground.up();
 
                 if (count > 7)
                 {
@@ -66,10 +68,10 @@ public class WorldGenBamboo
                 }
                 else if (CuisineRegistry.BAMBOO_PLANT.canPlaceBlockAt(worldIn, pos))
                 {
-                    worldIn.setBlockState(pos, CuisineRegistry.BAMBOO_PLANT.getDefaultState());
+                    worldIn.setBlockState(pos, CuisineRegistry.BAMBOO_PLANT.getDefaultState(), 2);
                 }
             }
-
+            WorldGenUtil.endFeature();
         }
     }
 }
@@ -44,7 +44,8 @@ public class WorldGenGarden
         if (worldIn.provider.getDimension() == 0 && event.getType() == Decorate.EventType.PUMPKIN)
         {
             Random rand = event.getRand();
-            BlockPos position = event.getPos().add(rand.nextInt(16) + 1, 128, rand.nextInt(16) + 1);
+            // Keep a margin of 1 for the neighbors planted below
+            BlockPos position = event.getPos().add(WorldGenUtil.AREA_OFFSET + 1 + rand.nextInt(14), 0, WorldGenUtil.AREA_OFFSET + 1 + rand.nextInt(14));
 
             Biome biome = worldIn.getBiome(position);
 
@@ -53,21 +54,22 @@ public class WorldGenGarden
                 return;
             }
 
-            for (IBlockState iblockstate = worldIn.getBlockState(position); (iblockstate.getBlock().isAir(iblockstate, worldIn, position) || iblockstate.getBlock().isLeaves(iblockstate, worldIn, position)) && position.getY() > 0; iblockstate = worldIn.getBlockState(position))
-            {
-                position = position.down();
-            }
-            // position = position.up();
-
+            WorldGenUtil.beginFeature("garden", event.getPos());
             Block plant = DropPool.draw(rand);
             plant(worldIn, position, plant, biome.topBlock.getBlock(), rand);
             plant(worldIn, position.offset(EnumFacing.byHorizontalIndex(rand.nextInt(4))), plant, biome.topBlock.getBlock(), rand);
             plant(worldIn, position.offset(EnumFacing.byHorizontalIndex(rand.nextInt(4))), plant, biome.topBlock.getBlock(), rand);
+            WorldGenUtil.endFeature();
         }
     }
 
-    private static void plant(World world, BlockPos pos, Block block, Block replacedBlock, Random rand)
+    private static void plant(World world, BlockPos column, Block block, Block replacedBlock, Random rand)
     {
+        BlockPos pos = WorldGenUtil.findGround(world, column.getX(), column.getZ(), 1);
+        if (pos == null)
+        {
+            return;
+        }
         IBlockState state = world.getBlockState(pos);
         if (state.getBlock() == replacedBlock)
         {
@@ -0,0 +1,106 @@
+package snownee.cuisine.world.gen;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import snownee.cuisine.Cuisine;
+
+/**
+ * Helpers shared by Cuisine world generation.
+ * <p>
+ * During population of chunk (x, z), chunks (x, z) to (x + 1, z + 1) are guaranteed to be
+ * loaded, and vanilla features place themselves in the 16x16 area offset by 8 blocks from
+ * the chunk corner. Everything generated here stays in that area, so that no extra chunk
+ * has to be loaded (or generated) on the way.
+ */
+public final class WorldGenUtil
+{
+    /**
+     * Offset of the populated area from the corner of the chunk being populated.
+     */
+    static final int AREA_OFFSET = 8;
+
+    @Nullable
+    private static String currentFeature;
+    @Nullable
+    private static ChunkPos currentChunk;
+
+    private WorldGenUtil()
+    {
+        throw new UnsupportedOperationException("No instance for you");
+    }
+
+    /**
+     * @param offset Offset of a position on one axis, relative to the corner of chunk being populated
+     * @return true if the position is inside the populated area
+     */
+    static boolean isInArea(int offset)
+    {
+        return offset >= AREA_OFFSET && offset < AREA_OFFSET + 16;
+    }
+
+    /**
+     * Find the topmost block which is neither air nor leaves in the given column. It starts
+     * from the height map of the chunk, so it usually checks only one or two blocks instead of
+     * walking down from a fixed height.
+     * @param world The world being generated
+     * @param x X coordinate of the column
+     * @param z Z coordinate of the column
+     * @param minY Lowest Y level to search
+     * @return Position of the ground block, or null if nothing is found above minY
+     */
+    @Nullable
+    static BlockPos findGround(World world, int x, int z, int minY)
+    {
+        Chunk chunk = world.getChunk(x >> 4, z >> 4);
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos(x, chunk.getHeightValue(x & 15, z & 15) - 1, z);
+        while (pos.getY() >= minY)
+        {
+            IBlockState state = chunk.getBlockState(pos);
+            if (!state.getBlock().isAir(state, world, pos) && !state.getBlock().isLeaves(state, world, pos))
+            {
+                return pos.toImmutable();
+            }
+            pos.setY(pos.getY() - 1);
+        }
+        return null;
+    }
+
+    /**
+     * Mark the start of a Cuisine feature, for {@link DebugListener} to attribute chunk loads.
+     */
+    static void beginFeature(String feature, BlockPos corner)
+    {
+        currentFeature = feature;
+        currentChunk = new ChunkPos(corner);
+    }
+
+    static void endFeature()
+    {
+        currentFeature = null;
+        currentChunk = null;
+    }
+
+    /**
+     * Logs chunks loaded while a Cuisine feature is being generated. Only registered when
+     * world generation debugging is enabled in config.
+     */
+    public static final class DebugListener
+    {
+        @SubscribeEvent
+        public void onChunkLoad(ChunkEvent.Load event)
+        {
+            if (currentFeature != null && !event.getWorld().isRemote)
+            {
+                Chunk chunk = event.getChunk();
+                Cuisine.logger.warn("Cascading chunk load: {} loaded chunk [{}, {}] while populating chunk {}", currentFeature, chunk.x, chunk.z, currentChunk);
+            }
+        }
+    }
+}
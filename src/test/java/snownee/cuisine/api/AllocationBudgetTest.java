@@ -0,0 +1,141 @@
+package snownee.cuisine.api;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Properties;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableList;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.EnumFacing;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
+import net.minecraftforge.items.CapabilityItemHandler;
+import snownee.cuisine.api.process.Grinding;
+import snownee.cuisine.api.process.Processing;
+import snownee.cuisine.api.process.Vessel;
+import snownee.cuisine.internal.BenchmarkKitchen;
+import snownee.cuisine.tiles.TileJar;
+import snownee.cuisine.tiles.TileMill;
+import snownee.kiwi.util.definition.ItemDefinition;
+
+/**
+ * Measures bytes allocated per call of hot paths with the allocation counter of the current
+ * thread, and fails if any of them allocates more than its budget plus tolerance in
+ * {@code allocation-budget.properties}. Run by the {@code checkAllocations} task.
+ * <p>
+ * Each operation is warmed up first, so that what the JIT compiler eliminates is not
+ * counted. What an empty operation allocates in the same loop is subtracted.
+ */
+public class AllocationBudgetTest
+{
+    private static final int WARMUP = 50000;
+    private static final int ITERATIONS = 100000;
+    private static final String BUDGET_FILE = "/allocation-budget.properties";
+
+    /**
+     * Results are kept here so that the operations cannot be eliminated.
+     */
+    static Object sink;
+
+    private static Properties budget;
+    private static double overhead;
+
+    @FunctionalInterface
+    interface Operation
+    {
+        Object run();
+    }
+
+    @BeforeClass
+    public static void setUp() throws IOException
+    {
+        BenchmarkKitchen.setUp();
+        budget = new Properties();
+        try (InputStream in = AllocationBudgetTest.class.getResourceAsStream(BUDGET_FILE))
+        {
+            assertNotNull("Missing " + BUDGET_FILE, in);
+            budget.load(in);
+        }
+        overhead = measure(() -> null);
+    }
+
+    @Test
+    public void grindingMatches()
+    {
+        Grinding grinding = new Grinding(ImmutableList.of(ItemDefinition.of(Items.CARROT), ItemDefinition.of(Items.BEETROOT)), new ItemStack(Items.SUGAR), 1);
+        Object[] inputs = { new ItemStack(Items.BEETROOT), ItemStack.EMPTY, new ItemStack(Items.CARROT), ItemStack.EMPTY };
+        assertWithinBudget("grinding.matches", () -> grinding.matches(inputs));
+    }
+
+    @Test
+    public void jarFindCurrentRecipe()
+    {
+        // Populating inputs is private, but it is all that finding a recipe allocates, as
+        // looking up an Object[] of inputs does not
+        Processing.VESSEL.removeAll();
+        Processing.VESSEL.add(new Vessel(ItemDefinition.of(Items.CARROT), FluidRegistry.WATER, ItemDefinition.of(Items.SUGAR), null));
+        TileJar jar = new TileJar();
+        jar.getTank().fill(new FluidStack(FluidRegistry.WATER, 1000), true);
+        jar.stacks.setStackInSlot(0, new ItemStack(Items.CARROT));
+        jar.stacks.setStackInSlot(1, new ItemStack(Items.BEETROOT));
+        assertWithinBudget("jar.findCurrentRecipe", jar::findCurrentRecipe);
+    }
+
+    @Test
+    public void foodGetEffectBindings()
+    {
+        CompositeFood dish = BenchmarkKitchen.makeDish(4);
+        assertWithinBudget("food.getEffectBindings", dish::getEffectBindings);
+    }
+
+    @Test
+    public void millGetCapability()
+    {
+        TileMill mill = new TileMill();
+        assertWithinBudget("mill.getCapability", () -> {
+            sink = mill.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, EnumFacing.UP);
+            return mill.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, EnumFacing.DOWN);
+        });
+    }
+
+    private static void assertWithinBudget(String name, Operation operation)
+    {
+        String limit = budget.getProperty(name);
+        assertNotNull(name + " has no budget", limit);
+        // A stray allocation, e.g. a TLAB refill or deoptimization, must not fail the check
+        String tolerance = budget.getProperty(name + ".tolerance", budget.getProperty("tolerance", "0"));
+        double bytes = Math.max(0, measure(operation) - overhead);
+        System.out.printf("%-24s %10.1f B/op   budget %s + %s%n", name, bytes, limit.trim(), tolerance.trim());
+        assertTrue(String.format("%s allocates %.1f B/op, budget is %s + %s", name, bytes, limit.trim(), tolerance.trim()), bytes <= Long.parseLong(limit.trim()) + Long.parseLong(tolerance.trim()));
+    }
+
+    /**
+     * @return Average bytes allocated by the current thread per call
+     */
+    private static double measure(Operation operation)
+    {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        for (int i = 0; i < WARMUP; i++)
+        {
+            sink = operation.run();
+        }
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < ITERATIONS; i++)
+        {
+            sink = operation.run();
+        }
+        long after = threads.getThreadAllocatedBytes(thread);
+        return (double) (after - before) / ITERATIONS;
+    }
+}
@@ -0,0 +1,44 @@
+package snownee.cuisine.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import snownee.cuisine.api.CompositeFood;
+import snownee.cuisine.api.CulinaryHub;
+import snownee.cuisine.internal.food.Dish;
+
+/**
+ * Checks that the fixture of benchmarks can be set up outside the game, so that the
+ * {@code jmh} task does not fail on its first benchmark instead.
+ */
+public class BenchmarkKitchenTest
+{
+    @BeforeClass
+    public static void setUp()
+    {
+        BenchmarkKitchen.setUp();
+    }
+
+    @Test
+    public void materialsAreMapped()
+    {
+        assertSame(BenchmarkKitchen.getMaterial(3), CulinaryHub.API_INSTANCE.findMaterial(new ItemStack(Items.CARROT)));
+        assertSame(BenchmarkKitchen.getMaterial(0), CulinaryHub.API_INSTANCE.findMaterial(new ItemStack(Items.BEETROOT)));
+    }
+
+    @Test
+    public void dishSurvivesRoundTrip()
+    {
+        Dish dish = BenchmarkKitchen.makeDish(4);
+        CompositeFood copy = CuisinePersistenceCenter.deserialize(BenchmarkKitchen.serialize(dish));
+        assertNotNull(copy);
+        assertEquals(dish.getIngredients().size(), copy.getIngredients().size());
+        assertEquals(dish.getSeasonings().size(), copy.getSeasonings().size());
+    }
+}
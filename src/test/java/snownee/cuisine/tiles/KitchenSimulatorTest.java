@@ -0,0 +1,17 @@
+package snownee.cuisine.tiles;
+
+import org.junit.Test;
+
+/**
+ * Runs a small simulation, so that the {@code simulateKitchens} task is known to work
+ * outside the game.
+ */
+public class KitchenSimulatorTest
+{
+    @Test
+    public void simulatesWithoutGame()
+    {
+        // 2 machines of each type for 2 minutes, enough for every script to act at least once
+        KitchenSimulator.main(new String[] { "2", "2400", "0", "0" });
+    }
+}